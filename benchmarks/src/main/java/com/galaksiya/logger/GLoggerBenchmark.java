@@ -0,0 +1,67 @@
+package com.galaksiya.logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the message logging methods of {@link GLogger}, with and without parameters, on a disabled (DEBUG)
+ * and an enabled (INFO) level. The <i>Contended</i> variants run the same calls from all available processors at once.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GLoggerBenchmark {
+
+	private static final String MESSAGE = "request completed";
+	private static final String FORMAT = "request %s completed with status %d in %d ms";
+
+	@Benchmark
+	public void debugDisabled(LoggerState state) {
+		state.logger.debug(MESSAGE);
+	}
+
+	@Benchmark
+	public void debugDisabledWithParams(LoggerState state) {
+		state.logger.debug(FORMAT, "getUser", 200, 15L);
+	}
+
+	@Benchmark
+	public void debugDisabledSupplier(LoggerState state) {
+		state.logger.debug(() -> String.format(FORMAT, "getUser", 200, 15L));
+	}
+
+	@Benchmark
+	public void infoEnabled(LoggerState state) {
+		state.logger.info(MESSAGE);
+	}
+
+	@Benchmark
+	public void infoEnabledWithParams(LoggerState state) {
+		state.logger.info(FORMAT, "getUser", 200, 15L);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void debugDisabledWithParamsContended(LoggerState state) {
+		state.logger.debug(FORMAT, "getUser", 200, 15L);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void infoEnabledWithParamsContended(LoggerState state) {
+		state.logger.info(FORMAT, "getUser", 200, 15L);
+	}
+}
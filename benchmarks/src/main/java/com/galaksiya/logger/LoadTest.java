@@ -0,0 +1,177 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.Level;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline load test of the GCP logging path. Runs producer threads logging through {@link GLogger} or {@link
+ * OperationLog} for a fixed time, with the GCP adapter writing to the {@link FakeLoggingFactory} service, and reports
+ * the sustained throughput, the caller-side latency percentiles and the loss. No project, credentials or network are
+ * needed.
+ * <br>
+ * Options are given as <i>name=value</i> arguments;
+ * <ul>
+ * <li><i>threads</i>: number of producer threads (default 4),</li>
+ * <li><i>seconds</i>: duration of the test (default 30),</li>
+ * <li><i>mode</i>: <i>log</i> for a message log per call, <i>operation</i> for an operation log per call (default
+ * log),</li>
+ * <li><i>latencyMillis</i>: latency of each backend write (default 0),</li>
+ * <li><i>failureRate</i>: probability of a backend write to fail (default 0),</li>
+ * <li><i>quotaRate</i>: probability of a backend write to be rejected for the quota (default 0).</li>
+ * </ul>
+ * GLogger configurations, e.g. the overflow policy, are given as system properties;
+ * <pre>
+ * java -Dcom.galaksiya.logging.gcpLogging.overflow.policy=DROP_NEWEST -cp benchmarks/target/benchmarks.jar \
+ *     com.galaksiya.logger.LoadTest threads=8 seconds=60 latencyMillis=20 quotaRate=0.01
+ * </pre>
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class LoadTest {
+
+	private static final String LOGGING_PREFIX = "com.galaksiya.logging.";
+
+	/**
+	 * Maximum time to wait for the queued entries to be written after the producers stop.
+	 */
+	private static final long DRAIN_MILLIS = 60000;
+
+	public static void main(String[] args) throws InterruptedException {
+		Map<String, String> options = parse(args);
+		int threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+		long seconds = Long.parseLong(options.getOrDefault("seconds", "30"));
+		boolean operations = "operation".equals(options.getOrDefault("mode", "log"));
+
+		System.getProperties().putIfAbsent(LOGGING_PREFIX + "useGcpLogging", "true");
+		System.getProperties().putIfAbsent(LOGGING_PREFIX + "gcpLogging.loggingFactory",
+				FakeLoggingFactory.class.getName());
+		FakeLogging logging = FakeLoggingFactory.getLogging();
+		logging.setWriteLatencyMillis(Long.parseLong(options.getOrDefault("latencyMillis", "0")));
+		logging.setWriteFailureRate(Double.parseDouble(options.getOrDefault("failureRate", "0")));
+		logging.setQuotaRejectionRate(Double.parseDouble(options.getOrDefault("quotaRate", "0")));
+		GLogger logger = new GLogger(LoadTest.class);
+		String logName = LoadTest.class.getName();
+
+		Producer[] producers = new Producer[threads];
+		CountDownLatch done = new CountDownLatch(threads);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		for (int i = 0; i < threads; i++) {
+			producers[i] = new Producer(logger, operations, deadline, done);
+			Thread thread = new Thread(producers[i], "load-test-producer-" + i);
+			thread.start();
+		}
+		done.await();
+		long deliveredInTime = logging.getWrittenEntries(logName);
+
+		long produced = 0;
+		LatencyHistogram.Snapshot latencies = null;
+		for (Producer producer : producers) {
+			produced += producer.produced;
+			LatencyHistogram.Snapshot snapshot = producer.latencies.snapshot();
+			latencies = latencies == null ? snapshot : latencies.plus(snapshot);
+		}
+		long delivered = drain(logging, logName, produced);
+		GLoggerMetrics.Snapshot metrics = GLoggerMetrics.snapshot();
+		long dropped = 0;
+		for (Level level : new Level[]{Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL}) {
+			dropped += metrics.getDroppedCount(level);
+		}
+
+		System.out.printf(Locale.ROOT, "threads=%d seconds=%d mode=%s%n", threads, seconds,
+				operations ? "operation" : "log");
+		System.out.printf(Locale.ROOT, "produced   %12d entries %12.0f entries/sec%n", produced,
+				(double) produced / seconds);
+		System.out.printf(Locale.ROOT, "delivered  %12d entries %12.0f entries/sec sustained%n", delivered,
+				(double) deliveredInTime / seconds);
+		System.out.printf(Locale.ROOT, "lost       %12d entries %12.4f%% (%d dropped by GLogger)%n",
+				produced - delivered, produced == 0 ? 0 : 100.0 * (produced - delivered) / produced, dropped);
+		System.out.printf(Locale.ROOT, "caller ns  p50=%d p90=%d p99=%d p99.9=%d max=%d%n",
+				latencies.getValueAtPercentile(50), latencies.getValueAtPercentile(90),
+				latencies.getValueAtPercentile(99), latencies.getValueAtPercentile(99.9), latencies.getMax());
+		System.out.printf(Locale.ROOT, "backend    %d write calls, %d failed, %d rejected for quota%n",
+				logging.getWriteCalls(), logging.getFailedWrites(), logging.getRejectedWrites());
+	}
+
+	/**
+	 * Waits until all the produced entries are written, or the written count stops growing.
+	 *
+	 * @return Number of the written entries.
+	 */
+	private static long drain(FakeLogging logging, String logName, long produced) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + DRAIN_MILLIS;
+		long written = logging.getWrittenEntries(logName);
+		long stalledSince = System.currentTimeMillis();
+		while (written < produced && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+			long current = logging.getWrittenEntries(logName);
+			if (current != written) {
+				written = current;
+				stalledSince = System.currentTimeMillis();
+			} else if (System.currentTimeMillis() - stalledSince > 5000) {
+				// Retries of a failing backend are at most 30 seconds apart, but nothing is queued any more.
+				break;
+			}
+		}
+		return written;
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("options must be given as name=value: " + arg);
+			}
+			options.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+		return options;
+	}
+
+	/**
+	 * Producer thread logging until the deadline, recording the latency of each call.
+	 */
+	private static final class Producer implements Runnable {
+
+		private final GLogger logger;
+		private final boolean operations;
+		private final long deadline;
+		private final CountDownLatch done;
+		private final LatencyHistogram latencies = new LatencyHistogram();
+		private long produced;
+
+		private Producer(GLogger logger, boolean operations, long deadline, CountDownLatch done) {
+			this.logger = logger;
+			this.operations = operations;
+			this.deadline = deadline;
+			this.done = done;
+		}
+
+		@Override
+		public void run() {
+			try {
+				long i = 0;
+				long start;
+				while ((start = System.nanoTime()) - deadline < 0) {
+					if (operations) {
+						OperationLog operation = logger.startOperation("loadTest");
+						operation.addField("i", i);
+						operation.succeed();
+					} else {
+						logger.info("load test entry %d", i);
+					}
+					latencies.record(System.nanoTime() - start);
+					i++;
+				}
+				produced = i;
+			} finally {
+				done.countDown();
+			}
+		}
+	}
+}
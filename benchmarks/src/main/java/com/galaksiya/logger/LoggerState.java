@@ -0,0 +1,37 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state holding a {@link GLogger} over the adapter selected with the {@link #adapter} parameter. Both
+ * adapters log at INFO level, so DEBUG calls measure the disabled path and INFO calls the enabled one.
+ * <ul>
+ * <li><i>log4j2</i>: {@link Log4j2LoggerAdapterImpl} writing to a Null appender,</li>
+ * <li><i>gcp</i>: {@link GcpLoggerAdapterImpl} writing to a {@link FakeLogging}.</li>
+ * </ul>
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class LoggerState {
+
+	@Param({"log4j2", "gcp"})
+	public String adapter;
+
+	GLogger logger;
+
+	@Setup
+	public void setUp() {
+		if ("gcp".equals(adapter)) {
+			GcpLoggingClient client = new GcpLoggingClient(new FakeLogging(), GLoggerConfig.getInstance());
+			logger = new GLogger(new GcpLoggerAdapterImpl(LoggerState.class, client));
+		} else {
+			logger = new GLogger(new Log4j2LoggerAdapterImpl(LoggerState.class));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.message.ObjectMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.logging.log4j.Level.DEBUG;
+import static org.apache.logging.log4j.Level.INFO;
+
+/**
+ * Benchmarks of rendering the {@link OperationLog} fields into the buffer of a layout, which the Null appender of the
+ * other benchmarks skips. Compares the {@link ObjectMessage} rendering of the field view with the {@link JsonMessage}
+ * streaming the fields as JSON. Half of the fields are strings and the other half are numbers, and every fourth field
+ * is on DEBUG level, so it is filtered out.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageEncodingBenchmark {
+
+	@Param({"4", "16"})
+	public int fieldCount;
+
+	private Map<String, Object> view;
+	private final StringBuilder buffer = new StringBuilder(1024);
+
+	@Setup
+	public void setUp() {
+		OperationFields fields = new OperationFields(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			if (i % 2 == 0) {
+				fields.put("field" + i, i % 4 == 3 ? DEBUG : INFO, "value " + i);
+			} else {
+				fields.put("field" + i, i % 4 == 3 ? DEBUG : INFO, 1000L * i);
+			}
+		}
+		view = fields.view(INFO, false);
+	}
+
+	@Benchmark
+	public int objectMessage() {
+		buffer.setLength(0);
+		new ObjectMessage(view).formatTo(buffer);
+		return buffer.length();
+	}
+
+	@Benchmark
+	public int jsonMessage() {
+		buffer.setLength(0);
+		new JsonMessage(view).formatTo(buffer);
+		return buffer.length();
+	}
+}
@@ -0,0 +1,78 @@
+package com.galaksiya.logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.logging.log4j.Level.DEBUG;
+
+/**
+ * Benchmarks of the full {@link OperationLog} lifecycle; {@link GLogger#startOperation(String)}, {@link
+ * OperationLog#addField(String, Object)} for {@link #fieldCount} times and {@link OperationLog#succeed()}. Every
+ * fourth field is added on DEBUG level, so it is filtered out on emission. The <i>Pooled</i> variant runs with the
+ * operation log pooling enabled.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationLogBenchmark {
+
+	@Param({"4", "16"})
+	public int fieldCount;
+
+	private String[] fieldNames;
+
+	@Setup
+	public void setUp() {
+		fieldNames = new String[fieldCount];
+		for (int i = 0; i < fieldCount; i++) {
+			fieldNames[i] = "field" + i;
+		}
+	}
+
+	@Benchmark
+	public void lifecycle(LoggerState state) {
+		runOperation(state.logger);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-Dcom.galaksiya.logging.operationLog.pooling=true")
+	public void lifecyclePooled(LoggerState state) {
+		runOperation(state.logger);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void lifecycleContended(LoggerState state) {
+		runOperation(state.logger);
+	}
+
+	private void runOperation(GLogger logger) {
+		OperationLog operation = logger.startOperation("benchmarkOperation");
+		for (int i = 0; i < fieldCount; i++) {
+			if (i % 4 == 3) {
+				operation.addField(fieldNames[i], i, DEBUG);
+			} else {
+				operation.addField(fieldNames[i], i);
+			}
+		}
+		operation.succeed();
+	}
+}
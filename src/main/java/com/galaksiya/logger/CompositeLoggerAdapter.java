@@ -0,0 +1,264 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import org.apache.logging.log4j.Level;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link LoggerAdapter} fanning the logs out to several adapters, each through its own {@link LoggerSink}. It is used
+ * when <i>com.galaksiya.logging.fanOut.enabled</i> is configured as true, to log both to the local Log4j2 appenders and
+ * to GCP, e.g. to keep the local files as the source of truth and use GCP for search.
+ * <br>
+ * The level of a log call is checked once, against the thresholds of all the sinks and the current levels of their
+ * adapters, before any per-sink work. If no sink accepts the level, nothing else is done. Otherwise the message is
+ * formatted, or the map is copied, once on the logging thread and handed over to the accepting sinks. A sink with a
+ * queue delivers on its own thread, so a slow GCP backend does not delay the local file logging.
+ * <br>
+ * The Log4j2 sink logs on the calling thread by default, since the local files should not lose entries to a full
+ * queue and Log4j2 has its own asynchronous loggers. If it is configured with a queue, the thread name and the thread
+ * context of the Log4j2 events are of the sink thread, and the location of the caller is not available.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+class CompositeLoggerAdapter implements LoggerAdapter {
+
+	/**
+	 * Adapters to fan the logs out to, and the sinks delivering to them with the same index.
+	 */
+	private final LoggerAdapter[] targets;
+	private final LoggerSink[] sinks;
+
+	/**
+	 * Creates an adapter logging through both a Log4j2 and a GCP adapter of the given class, with the shared sinks of
+	 * the configuration.
+	 *
+	 * @param type Class to create the adapters for.
+	 */
+	CompositeLoggerAdapter(Class<?> type) {
+		this(new LoggerAdapter[]{new Log4j2LoggerAdapterImpl(type), new GcpLoggerAdapterImpl(type)},
+				new LoggerSink[]{Sinks.LOG4J2, Sinks.GCP});
+	}
+
+	/**
+	 * Creates an adapter logging through the given adapters with the given sinks.
+	 *
+	 * @param targets Adapters to fan the logs out to.
+	 * @param sinks   Sinks to deliver to the adapters with, in the order of the adapters.
+	 */
+	CompositeLoggerAdapter(LoggerAdapter[] targets, LoggerSink[] sinks) {
+		if (targets.length != sinks.length || targets.length > Integer.SIZE) {
+			throw new IllegalArgumentException("each of at most " + Integer.SIZE + " adapters must have a sink");
+		}
+		this.targets = targets.clone();
+		this.sinks = sinks.clone();
+	}
+
+	@Override
+	public void debug(String message, Object... params) {
+		log(Level.DEBUG, message, null, params);
+	}
+
+	@Override
+	public void debug(Map<String, Object> map) {
+		log(Level.DEBUG, map, null);
+	}
+
+	@Override
+	public void debug(String message, Throwable throwable, Object... params) {
+		log(Level.DEBUG, message, throwable, params);
+	}
+
+	@Override
+	public void error(String message, Object... params) {
+		log(Level.ERROR, message, null, params);
+	}
+
+	@Override
+	public void error(String message, Throwable throwable, Object... params) {
+		log(Level.ERROR, message, throwable, params);
+	}
+
+	@Override
+	public void error(Map<String, Object> map) {
+		log(Level.ERROR, map, null);
+	}
+
+	@Override
+	public void error(Map<String, Object> map, Throwable t) {
+		log(Level.ERROR, map, t);
+	}
+
+	@Override
+	public void fatal(String message, Object... params) {
+		log(Level.FATAL, message, null, params);
+	}
+
+	@Override
+	public void fatal(String message, Throwable throwable, Object... params) {
+		log(Level.FATAL, message, throwable, params);
+	}
+
+	@Override
+	public void fatal(Map<String, Object> map) {
+		log(Level.FATAL, map, null);
+	}
+
+	@Override
+	public void info(String message, Object... params) {
+		log(Level.INFO, message, null, params);
+	}
+
+	@Override
+	public void info(String message, Throwable throwable, Object... params) {
+		log(Level.INFO, message, throwable, params);
+	}
+
+	@Override
+	public void info(Map<String, Object> map) {
+		log(Level.INFO, map, null);
+	}
+
+	@Override
+	public void trace(String message, Object... params) {
+		log(Level.TRACE, message, null, params);
+	}
+
+	@Override
+	public void trace(String message, Throwable throwable, Object... params) {
+		log(Level.TRACE, message, throwable, params);
+	}
+
+	@Override
+	public void trace(Map<String, Object> map) {
+		log(Level.TRACE, map, null);
+	}
+
+	@Override
+	public void warn(String message, Object... params) {
+		log(Level.WARN, message, null, params);
+	}
+
+	@Override
+	public void warn(String message, Throwable throwable, Object... params) {
+		log(Level.WARN, message, throwable, params);
+	}
+
+	@Override
+	public void warn(Map<String, Object> map) {
+		log(Level.WARN, map, null);
+	}
+
+	@Override
+	public void warn(Map<String, Object> map, Throwable t) {
+		log(Level.WARN, map, t);
+	}
+
+	/**
+	 * @return The least specific level accepted by any of the sinks.
+	 */
+	@Override
+	public Level getLevel() {
+		Level level = Level.OFF;
+		for (int i = 0; i < this.sinks.length; i++) {
+			Level sinkLevel = this.sinks[i].getThreshold();
+			Level targetLevel = this.targets[i].getLevel();
+			if (targetLevel != null && targetLevel.isMoreSpecificThan(sinkLevel)) {
+				sinkLevel = targetLevel;
+			}
+			if (sinkLevel.isLessSpecificThan(level)) {
+				level = sinkLevel;
+			}
+		}
+		return level;
+	}
+
+	@Override
+	public boolean isEnabled(Level level) {
+		if (accepting(level) == 0) {
+			filtered(level, 0);
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object[] params) {
+		int accepting = accepting(level);
+		filtered(level, accepting);
+		if (accepting == 0) {
+			return;
+		}
+		String formatted = params == null || params.length == 0 ? message : MessageTemplate.format(message, params);
+		for (int i = 0; i < this.sinks.length; i++) {
+			if ((accepting & 1 << i) != 0) {
+				this.sinks[i].offer(new LoggerSink.Entry(this.targets[i], level, formatted, null, throwable));
+			}
+		}
+	}
+
+	@Override
+	public void log(Level level, Map<String, Object> map, Throwable throwable) {
+		int accepting = accepting(level);
+		filtered(level, accepting);
+		if (accepting == 0) {
+			return;
+		}
+		// Maps, e.g. the operation log fields, may be reused by the caller once logged.
+		Map<String, Object> copy = new HashMap<>(map);
+		for (int i = 0; i < this.sinks.length; i++) {
+			if ((accepting & 1 << i) != 0) {
+				this.sinks[i].offer(new LoggerSink.Entry(this.targets[i], level, null, copy, throwable));
+			}
+		}
+	}
+
+	/**
+	 * Checks the given level against all the sinks at once.
+	 *
+	 * @param level Level of the log call.
+	 * @return Bit set of the indexes of the sinks accepting the level, zero if none.
+	 */
+	private int accepting(Level level) {
+		int accepting = 0;
+		for (int i = 0; i < this.sinks.length; i++) {
+			if (this.sinks[i].accepts(this.targets[i], level)) {
+				accepting |= 1 << i;
+			}
+		}
+		return accepting;
+	}
+
+	/**
+	 * Counts the log call as filtered for the sinks not accepting its level, see {@link GLoggerMetrics}.
+	 *
+	 * @param level     Level of the log call.
+	 * @param accepting Bit set of the sinks accepting the level.
+	 */
+	private void filtered(Level level, int accepting) {
+		for (int i = 0; i < this.sinks.length; i++) {
+			if ((accepting & 1 << i) == 0) {
+				GLoggerMetrics.filtered(this.sinks[i].getAdapter(), level);
+			}
+		}
+	}
+
+	/**
+	 * Process-wide sinks of the configured backends, created on first use.
+	 */
+	private static final class Sinks {
+
+		private static final LoggerSink LOG4J2;
+		private static final LoggerSink GCP;
+
+		static {
+			GLoggerConfig config = GLoggerConfig.getInstance();
+			LOG4J2 = new LoggerSink("log4j2", GLoggerMetrics.Adapter.LOG4J2,
+					Level.toLevel(config.getFanOutLog4j2Level(), Level.TRACE), config.getFanOutLog4j2QueueCapacity());
+			GCP = new LoggerSink("gcp", GLoggerMetrics.Adapter.GCP, Level.toLevel(config.getFanOutGcpLevel(),
+					Level.TRACE), config.getFanOutGcpQueueCapacity());
+		}
+	}
+}
@@ -5,6 +5,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.apache.logging.log4j.Level.INFO;
 
@@ -22,6 +23,13 @@ import static org.apache.logging.log4j.Level.INFO;
  * <pre>
  * this.trace("Some log message", someParams);
  * </pre>
+ * Messages that are expensive to build can be given with a {@link Supplier}, which is called only when the level is
+ * enabled:
+ * <pre>
+ * this.debug(() -&gt; "Some log message " + expensiveDescription());
+ * </pre>
+ * Other expensive arguments, e.g. the maps to log, can be guarded with the level checks like {@link
+ * #isDebugEnabled()}, which compare the level with the cached effective level of the logger.
  * To use this logger, classes must provide their own {@link Logger}s while instantiating it.
  *
  * @author Berkay Akdal
@@ -37,14 +45,28 @@ public class GLogger {
 
 	/**
 	 * Constructs a new {@link GLogger} instance. <br> {@link GLogger} uses {@link Log4j2LoggerAdapterImpl} by default.
-	 * It can be changed by configuring com.galaksiya.logger.useGcpLogger property as true.
+	 * It can be changed by configuring com.galaksiya.logger.useGcpLogger property as true, or to log to both by
+	 * configuring com.galaksiya.logger.fanOut.enabled property as true, see {@link CompositeLoggerAdapter}.
 	 *
 	 * @param type Class to create and wrap a Log4j2 {@link Log4j2LoggerAdapterImpl} instance or use as the logger name
 	 *             for {@link GcpLoggerAdapterImpl}.
 	 */
 	public GLogger(final Class<?> type) {
-		this.log = GLoggerConfig.getInstance().isGcpLoggingEnabled() ?
-				new GcpLoggerAdapterImpl(type) : new Log4j2LoggerAdapterImpl(type);
+		GLoggerConfig config = GLoggerConfig.getInstance();
+		if (config.isFanOutEnabled()) {
+			this.log = new CompositeLoggerAdapter(type);
+		} else {
+			this.log = config.isGcpLoggingEnabled() ? new GcpLoggerAdapterImpl(type) : new Log4j2LoggerAdapterImpl(type);
+		}
+	}
+
+	/**
+	 * Constructs a new {@link GLogger} instance using the given adapter regardless of the configuration.
+	 *
+	 * @param log Logger adapter to use on this GLogger.
+	 */
+	GLogger(final LoggerAdapter log) {
+		this.log = log;
 	}
 
 	/**
@@ -220,6 +242,701 @@ public class GLogger {
 		log.warn(map, t);
 	}
 
+	/**
+	 * Works exactly like {@link #trace(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void trace(String message) {
+		log.trace(message);
+	}
+
+	/**
+	 * Works exactly like {@link #trace(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #trace(String, Throwable, Object...)} does,
+	 * so {@code trace(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code trace(message, null)} ambiguous with {@link #trace(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void trace(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.trace(message, (Throwable) param);
+		} else {
+			log.trace(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #trace(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void trace(String message, Object param1, Object param2) {
+		log.trace(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #trace(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void trace(String message, Object param1, Object param2, Object param3) {
+		log.trace(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #trace(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void trace(String message, Throwable throwable, Object param) {
+		log.trace(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #trace(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void trace(String message, Throwable throwable, Object param1, Object param2) {
+		log.trace(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void trace(Supplier<String> messageSupplier) {
+		log.trace(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #trace(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void trace(Supplier<String> messageSupplier, Throwable throwable) {
+		log.trace(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void traceMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.traceMap(mapSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void debug(String message) {
+		log.debug(message);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #debug(String, Throwable, Object...)} does,
+	 * so {@code debug(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code debug(message, null)} ambiguous with {@link #debug(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void debug(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.debug(message, (Throwable) param);
+		} else {
+			log.debug(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void debug(String message, Object param1, Object param2) {
+		log.debug(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void debug(String message, Object param1, Object param2, Object param3) {
+		log.debug(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void debug(String message, Throwable throwable, Object param) {
+		log.debug(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void debug(String message, Throwable throwable, Object param1, Object param2) {
+		log.debug(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void debug(Supplier<String> messageSupplier) {
+		log.debug(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #debug(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void debug(Supplier<String> messageSupplier, Throwable throwable) {
+		log.debug(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void debugMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.debugMap(mapSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void info(String message) {
+		log.info(message);
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #info(String, Throwable, Object...)} does,
+	 * so {@code info(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code info(message, null)} ambiguous with {@link #info(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void info(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.info(message, (Throwable) param);
+		} else {
+			log.info(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void info(String message, Object param1, Object param2) {
+		log.info(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void info(String message, Object param1, Object param2, Object param3) {
+		log.info(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void info(String message, Throwable throwable, Object param) {
+		log.info(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #info(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void info(String message, Throwable throwable, Object param1, Object param2) {
+		log.info(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void info(Supplier<String> messageSupplier) {
+		log.info(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #info(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void info(Supplier<String> messageSupplier, Throwable throwable) {
+		log.info(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void infoMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.infoMap(mapSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void warn(String message) {
+		log.warn(message);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #warn(String, Throwable, Object...)} does,
+	 * so {@code warn(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code warn(message, null)} ambiguous with {@link #warn(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void warn(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.warn(message, (Throwable) param);
+		} else {
+			log.warn(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void warn(String message, Object param1, Object param2) {
+		log.warn(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void warn(String message, Object param1, Object param2, Object param3) {
+		log.warn(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void warn(String message, Throwable throwable, Object param) {
+		log.warn(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void warn(String message, Throwable throwable, Object param1, Object param2) {
+		log.warn(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void warn(Supplier<String> messageSupplier) {
+		log.warn(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #warn(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void warn(Supplier<String> messageSupplier, Throwable throwable) {
+		log.warn(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void warnMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.warnMap(mapSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void error(String message) {
+		log.error(message);
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #error(String, Throwable, Object...)} does,
+	 * so {@code error(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code error(message, null)} ambiguous with {@link #error(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void error(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.error(message, (Throwable) param);
+		} else {
+			log.error(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void error(String message, Object param1, Object param2) {
+		log.error(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void error(String message, Object param1, Object param2, Object param3) {
+		log.error(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void error(String message, Throwable throwable, Object param) {
+		log.error(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #error(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void error(String message, Throwable throwable, Object param1, Object param2) {
+		log.error(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void error(Supplier<String> messageSupplier) {
+		log.error(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #error(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void error(Supplier<String> messageSupplier, Throwable throwable) {
+		log.error(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void errorMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.errorMap(mapSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Object...)} without any parameters, the message is printed as it is.
+	 *
+	 * @param message Log message to print.
+	 */
+	public void fatal(String message) {
+		log.fatal(message);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Object...)} with a single parameter. No parameter array is created unless
+	 * the level is enabled.
+	 * <br>
+	 * A {@link Throwable} parameter is appended to the log like {@link #fatal(String, Throwable, Object...)} does,
+	 * so {@code fatal(message, e)} logs the exception. There is no separate Throwable overload, since it would make
+	 * {@code fatal(message, null)} ambiguous with {@link #fatal(String, Object...)}.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param   Parameter to format the given <code>message</code> with.
+	 */
+	public void fatal(String message, Object param) {
+		if (param instanceof Throwable) {
+			log.fatal(message, (Throwable) param);
+		} else {
+			log.fatal(message, param);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Object...)} with two parameters. No parameter array is created unless the
+	 * level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 */
+	public void fatal(String message, Object param1, Object param2) {
+		log.fatal(message, param1, param2);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Object...)} with three parameters. No parameter array is created unless
+	 * the level is enabled.
+	 *
+	 * @param message Log message to format and print.
+	 * @param param1  First parameter to format the given <code>message</code> with.
+	 * @param param2  Second parameter to format the given <code>message</code> with.
+	 * @param param3  Third parameter to format the given <code>message</code> with.
+	 */
+	public void fatal(String message, Object param1, Object param2, Object param3) {
+		log.fatal(message, param1, param2, param3);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Throwable, Object...)} with a single parameter.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param     Parameter to format the given <code>message</code> with.
+	 */
+	public void fatal(String message, Throwable throwable, Object param) {
+		log.fatal(message, throwable, param);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(String, Throwable, Object...)} with two parameters.
+	 *
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log.
+	 * @param param1    First parameter to format the given <code>message</code> with.
+	 * @param param2    Second parameter to format the given <code>message</code> with.
+	 */
+	public void fatal(String message, Throwable throwable, Object param1, Object param2) {
+		log.fatal(message, throwable, param1, param2);
+	}
+
+	/**
+	 * Logs the message created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 */
+	public void fatal(Supplier<String> messageSupplier) {
+		log.fatal(messageSupplier);
+	}
+
+	/**
+	 * Works exactly like {@link #fatal(Supplier)}, additionally appends the given {@link Throwable} to the log message.
+	 *
+	 * @param messageSupplier Supplier of the log message to print.
+	 * @param throwable       Occurred exception to append to the log.
+	 */
+	public void fatal(Supplier<String> messageSupplier, Throwable throwable) {
+		log.fatal(messageSupplier, throwable);
+	}
+
+	/**
+	 * Logs the map created by the given supplier. The supplier is called if and only if the level is enabled.
+	 *
+	 * @param mapSupplier Supplier of the map to print.
+	 */
+	public void fatalMap(Supplier<Map<String, Object>> mapSupplier) {
+		log.fatalMap(mapSupplier);
+	}
+
+	/**
+	 * Checks whether the logs of given level are printed by this logger, to skip building the arguments or the map of
+	 * a log call that would not be printed:
+	 * <pre>
+	 * if (logger.isEnabled(Level.DEBUG)) {
+	 * 	logger.debug(buildDebugMap());
+	 * }
+	 * </pre>
+	 * The check is a comparison with the cached effective level of the logger, and does not allocate anything.
+	 *
+	 * @param level Level to check.
+	 * @return {@code true} if the given level is enabled.
+	 */
+	public boolean isEnabled(Level level) {
+		return log.isEnabled(level);
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the trace level.
+	 *
+	 * @return {@code true} if the trace level is enabled.
+	 */
+	public boolean isTraceEnabled() {
+		return log.isTraceEnabled();
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the debug level.
+	 *
+	 * @return {@code true} if the debug level is enabled.
+	 */
+	public boolean isDebugEnabled() {
+		return log.isDebugEnabled();
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the info level.
+	 *
+	 * @return {@code true} if the info level is enabled.
+	 */
+	public boolean isInfoEnabled() {
+		return log.isInfoEnabled();
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the warn level.
+	 *
+	 * @return {@code true} if the warn level is enabled.
+	 */
+	public boolean isWarnEnabled() {
+		return log.isWarnEnabled();
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the error level.
+	 *
+	 * @return {@code true} if the error level is enabled.
+	 */
+	public boolean isErrorEnabled() {
+		return log.isErrorEnabled();
+	}
+
+	/**
+	 * Works exactly like {@link #isEnabled(Level)} for the fatal level.
+	 *
+	 * @return {@code true} if the fatal level is enabled.
+	 */
+	public boolean isFatalEnabled() {
+		return log.isFatalEnabled();
+	}
+
 	/**
 	 * Starts a new operation log by creating an {@link OperationLog} with given name.
 	 *
@@ -227,7 +944,18 @@ public class GLogger {
 	 * @return Created {@link OperationLog}.
 	 */
 	public OperationLog startOperation(String name) {
-		return new OperationLog(name, this, INFO).logStart();
+		return OperationLogPool.acquire(name, this, INFO, OperationLog.DEFAULT_EXPECTED_FIELD_COUNT).logStart();
+	}
+
+	/**
+	 * Starts a new operation log by creating an {@link OperationLog} with given name.
+	 *
+	 * @param name               Name of the current operation to create the {@link OperationLog} with.
+	 * @param expectedFieldCount Expected number of fields to add to the operation, to size its field storage up front.
+	 * @return Created {@link OperationLog}.
+	 */
+	public OperationLog startOperation(String name, int expectedFieldCount) {
+		return OperationLogPool.acquire(name, this, INFO, expectedFieldCount).logStart();
 	}
 
 	/**
@@ -238,7 +966,8 @@ public class GLogger {
 	 * @return Created {@link OperationLog}.
 	 */
 	public OperationLog startOperation(String name, Level exitLogLevel) {
-		return new OperationLog(name, this, exitLogLevel).logStart();
+		return OperationLogPool.acquire(name, this, exitLogLevel, OperationLog.DEFAULT_EXPECTED_FIELD_COUNT)
+				.logStart();
 	}
 
 	/**
@@ -249,7 +978,8 @@ public class GLogger {
 	 * @return Created {@link OperationLog}.
 	 */
 	public OperationLog startOperation(String name, String logId) {
-		return new OperationLog(name, this, INFO).chain(logId).logStart();
+		return OperationLogPool.acquire(name, this, INFO, OperationLog.DEFAULT_EXPECTED_FIELD_COUNT).chain(logId)
+				.logStart();
 	}
 
 	/**
@@ -261,7 +991,21 @@ public class GLogger {
 	 * @return Created {@link OperationLog}.
 	 */
 	public OperationLog startOperation(String name, String logId, Level exitLogLevel) {
-		return new OperationLog(name, this, exitLogLevel).chain(logId).logStart();
+		return OperationLogPool.acquire(name, this, exitLogLevel, OperationLog.DEFAULT_EXPECTED_FIELD_COUNT)
+				.chain(logId).logStart();
+	}
+
+	/**
+	 * Starts a new operation log by creating an {@link OperationLog} with given name.
+	 *
+	 * @param name               Name of the current operation to create the {@link OperationLog} with.
+	 * @param logId              Context id of a previous OperationLog to link with the new one.
+	 * @param exitLogLevel       Log level to use while printing the exit log of the operation.
+	 * @param expectedFieldCount Expected number of fields to add to the operation, to size its field storage up front.
+	 * @return Created {@link OperationLog}.
+	 */
+	public OperationLog startOperation(String name, String logId, Level exitLogLevel, int expectedFieldCount) {
+		return OperationLogPool.acquire(name, this, exitLogLevel, expectedFieldCount).chain(logId).logStart();
 	}
 
 	/**
@@ -0,0 +1,393 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import com.google.cloud.logging.Severity;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Self-instrumentation of GLogger, enabled with the <i>com.galaksiya.logging.metrics.enabled</i> configuration. The
+ * following are recorded;
+ * <ul>
+ * <li>number of the entries emitted and filtered by level, per {@link Adapter} and level,</li>
+ * <li>number of the GCP entries dropped by the overflow policy or after a failed write, per level,</li>
+ * <li>latencies of the {@link Timer}s, in nanoseconds.</li>
+ * </ul>
+ * Counters are {@link LongAdder}s and latencies are recorded into {@link LatencyHistogram}s, so recording is a striped
+ * increment without locks or allocation, cheap enough to be left on in production. Counters and histograms are
+ * cumulative since the start of the application; take {@link #snapshot()}s and compare them for the rates.
+ * <br>
+ * Metrics are also exposed through JMX with the {@link GLoggerMetricsMBean} registered as
+ * <i>com.galaksiya.logger:type=GLoggerMetrics</i>.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class GLoggerMetrics {
+
+	/**
+	 * Name of the JMX MBean exposing the metrics.
+	 */
+	public static final String OBJECT_NAME = "com.galaksiya.logger:type=GLoggerMetrics";
+
+	/**
+	 * Levels the counters are kept for, a counter index is the adapter ordinal times the number of levels plus the
+	 * level index.
+	 */
+	private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL};
+
+	private static final LongAdder[] EMITTED = newCounters(Adapter.values().length * LEVELS.length);
+	private static final LongAdder[] FILTERED = newCounters(Adapter.values().length * LEVELS.length);
+	private static final LongAdder[] DROPPED = newCounters(LEVELS.length);
+	private static final LatencyHistogram[] LATENCIES = new LatencyHistogram[Timer.values().length];
+
+	static {
+		for (int i = 0; i < LATENCIES.length; i++) {
+			LATENCIES[i] = new LatencyHistogram();
+		}
+		registerMBean();
+	}
+
+	private GLoggerMetrics() {
+	}
+
+	/**
+	 * Logger adapters the entries are counted for.
+	 */
+	public enum Adapter {
+
+		/**
+		 * {@link Log4j2LoggerAdapterImpl}.
+		 */
+		LOG4J2,
+
+		/**
+		 * {@link GcpLoggerAdapterImpl}.
+		 */
+		GCP
+	}
+
+	/**
+	 * Operations whose latencies are recorded.
+	 */
+	public enum Timer {
+
+		/**
+		 * Handing an entry over to the GCP writer by a logging thread, including the conversion of its payload. Also
+		 * the write itself if the entry is written on the logging thread.
+		 */
+		GCP_WRITE,
+
+		/**
+		 * A batch write of the GCP writer to Cloud Logging.
+		 */
+		GCP_BATCH_WRITE,
+
+		/**
+		 * Emitting the single log of an {@link OperationLog}, namely filtering and serializing its fields and passing
+		 * them to the adapter.
+		 */
+		OPERATION_LOG_EMIT
+	}
+
+	/**
+	 * @return {@code true} if the metrics are recorded.
+	 */
+	static boolean isEnabled() {
+		return GLoggerConfig.getInstance().isMetricsEnabled();
+	}
+
+	/**
+	 * Counts an entry passed by the given adapter to its backend.
+	 *
+	 * @param adapter Adapter of the entry.
+	 * @param level   Level of the entry.
+	 */
+	static void emitted(Adapter adapter, Level level) {
+		if (isEnabled()) {
+			EMITTED[adapter.ordinal() * LEVELS.length + indexOf(level)].increment();
+		}
+	}
+
+	/**
+	 * Counts an entry not logged since its level is not enabled.
+	 *
+	 * @param adapter Adapter of the entry.
+	 * @param level   Level of the entry.
+	 */
+	static void filtered(Adapter adapter, Level level) {
+		if (isEnabled()) {
+			FILTERED[adapter.ordinal() * LEVELS.length + indexOf(level)].increment();
+		}
+	}
+
+	/**
+	 * Counts a GCP entry dropped by the writer.
+	 *
+	 * @param severity Severity of the entry.
+	 */
+	static void dropped(Severity severity) {
+		if (isEnabled()) {
+			DROPPED[indexOf(severity)].increment();
+		}
+	}
+
+	/**
+	 * Records a latency. Callers check {@link #isEnabled()} before measuring.
+	 *
+	 * @param timer Operation measured.
+	 * @param nanos Latency in nanoseconds.
+	 */
+	static void record(Timer timer, long nanos) {
+		LATENCIES[timer.ordinal()].record(nanos);
+	}
+
+	/**
+	 * Takes a snapshot of the metrics recorded so far.
+	 *
+	 * @return Snapshot of the metrics.
+	 */
+	public static Snapshot snapshot() {
+		Latency[] latencies = new Latency[LATENCIES.length];
+		for (int i = 0; i < LATENCIES.length; i++) {
+			latencies[i] = new Latency(LATENCIES[i].snapshot());
+		}
+		return new Snapshot(sums(EMITTED), sums(FILTERED), sums(DROPPED), latencies);
+	}
+
+	private static int indexOf(Level level) {
+		int intLevel = level.intLevel();
+		if (intLevel <= Level.FATAL.intLevel()) {
+			return 5;
+		} else if (intLevel <= Level.ERROR.intLevel()) {
+			return 4;
+		} else if (intLevel <= Level.WARN.intLevel()) {
+			return 3;
+		} else if (intLevel <= Level.INFO.intLevel()) {
+			return 2;
+		} else if (intLevel <= Level.DEBUG.intLevel()) {
+			return 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * @param severity GCP severity.
+	 * @return Index of the level the given severity is logged with, see {@link GcpLoggerAdapterImpl#severityOf(Level)}.
+	 */
+	private static int indexOf(Severity severity) {
+		switch (severity) {
+			case EMERGENCY:
+				return 5;
+			case ERROR:
+			case CRITICAL:
+			case ALERT:
+				return 4;
+			case WARNING:
+				return 3;
+			case INFO:
+			case NOTICE:
+				return 2;
+			case DEBUG:
+				return 1;
+			default:
+				return 0;
+		}
+	}
+
+	private static LongAdder[] newCounters(int length) {
+		LongAdder[] counters = new LongAdder[length];
+		for (int i = 0; i < length; i++) {
+			counters[i] = new LongAdder();
+		}
+		return counters;
+	}
+
+	private static long[] sums(LongAdder[] counters) {
+		long[] sums = new long[counters.length];
+		for (int i = 0; i < counters.length; i++) {
+			sums[i] = counters[i].sum();
+		}
+		return sums;
+	}
+
+	private static void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(
+					new StandardMBean(new MetricsMBean(), GLoggerMetricsMBean.class), new ObjectName(OBJECT_NAME));
+		} catch (JMException | RuntimeException e) {
+			StatusLogger.getLogger().warn("GLogger metrics cannot be registered to JMX as {}", OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * Metrics recorded until a point in time.
+	 */
+	public static final class Snapshot {
+
+		private final long[] emitted;
+		private final long[] filtered;
+		private final long[] dropped;
+		private final Latency[] latencies;
+
+		private Snapshot(long[] emitted, long[] filtered, long[] dropped, Latency[] latencies) {
+			this.emitted = emitted;
+			this.filtered = filtered;
+			this.dropped = dropped;
+			this.latencies = latencies;
+		}
+
+		/**
+		 * @param adapter Adapter of the entries.
+		 * @param level   Level of the entries.
+		 * @return Number of the entries of the given level passed by the given adapter to its backend.
+		 */
+		public long getEmittedCount(Adapter adapter, Level level) {
+			return this.emitted[adapter.ordinal() * LEVELS.length + indexOf(level)];
+		}
+
+		/**
+		 * @param adapter Adapter of the entries.
+		 * @param level   Level of the entries.
+		 * @return Number of the entries of the given level not logged by the given adapter since the level is not
+		 * enabled.
+		 */
+		public long getFilteredCount(Adapter adapter, Level level) {
+			return this.filtered[adapter.ordinal() * LEVELS.length + indexOf(level)];
+		}
+
+		/**
+		 * @param level Level of the entries.
+		 * @return Number of the GCP entries of the given level dropped by the overflow policy or after a failed write.
+		 */
+		public long getDroppedCount(Level level) {
+			return this.dropped[indexOf(level)];
+		}
+
+		/**
+		 * @param timer Operation measured.
+		 * @return Latencies of the given operation.
+		 */
+		public Latency getLatency(Timer timer) {
+			return this.latencies[timer.ordinal()];
+		}
+	}
+
+	/**
+	 * Summary of the latencies of an operation, in nanoseconds. Percentiles are accurate to 6.25%, see {@link
+	 * LatencyHistogram}.
+	 */
+	public static final class Latency {
+
+		private final long count;
+		private final long p50;
+		private final long p90;
+		private final long p99;
+		private final long max;
+
+		private Latency(LatencyHistogram.Snapshot snapshot) {
+			this.count = snapshot.getCount();
+			this.p50 = snapshot.getValueAtPercentile(50);
+			this.p90 = snapshot.getValueAtPercentile(90);
+			this.p99 = snapshot.getValueAtPercentile(99);
+			this.max = snapshot.getMax();
+		}
+
+		/**
+		 * @return Number of the recorded latencies.
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * @return Median latency.
+		 */
+		public long getP50() {
+			return this.p50;
+		}
+
+		/**
+		 * @return 90th percentile latency.
+		 */
+		public long getP90() {
+			return this.p90;
+		}
+
+		/**
+		 * @return 99th percentile latency.
+		 */
+		public long getP99() {
+			return this.p99;
+		}
+
+		/**
+		 * @return Largest latency, exact.
+		 */
+		public long getMax() {
+			return this.max;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + this.count + " p50=" + this.p50 + " p90=" + this.p90 + " p99=" + this.p99 + " max="
+					+ this.max;
+		}
+	}
+
+	/**
+	 * JMX view of the metrics, counters are exchanged as <i>name=count</i> entries.
+	 */
+	private static final class MetricsMBean implements GLoggerMetricsMBean {
+
+		@Override
+		public String[] getEmittedCounts() {
+			return counts(snapshot().emitted, true);
+		}
+
+		@Override
+		public String[] getFilteredCounts() {
+			return counts(snapshot().filtered, true);
+		}
+
+		@Override
+		public String[] getDroppedCounts() {
+			return counts(snapshot().dropped, false);
+		}
+
+		@Override
+		public String[] getLatencies() {
+			Snapshot snapshot = snapshot();
+			List<String> latencies = new ArrayList<>();
+			for (Timer timer : Timer.values()) {
+				latencies.add(timer.name() + " " + snapshot.getLatency(timer));
+			}
+			return latencies.toArray(new String[0]);
+		}
+
+		/**
+		 * @param counts     Counter sums.
+		 * @param perAdapter Indicates whether the counters are kept per adapter and level, or per level only.
+		 * @return Non-zero counts as <i>ADAPTER.LEVEL=count</i> or <i>LEVEL=count</i>.
+		 */
+		private static String[] counts(long[] counts, boolean perAdapter) {
+			List<String> entries = new ArrayList<>();
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != 0) {
+					String level = LEVELS[i % LEVELS.length].name();
+					entries.add((perAdapter ? Adapter.values()[i / LEVELS.length] + "." + level : level) + "="
+							+ counts[i]);
+				}
+			}
+			return entries.toArray(new String[0]);
+		}
+	}
+}
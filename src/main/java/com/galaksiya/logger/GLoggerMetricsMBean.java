@@ -0,0 +1,32 @@
+package com.galaksiya.logger;
+
+/**
+ * JMX management interface of the {@link GLoggerMetrics}. Counters are cumulative since the start of the application
+ * and only the non-zero ones are listed; latencies are in nanoseconds.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public interface GLoggerMetricsMBean {
+
+	/**
+	 * @return Numbers of the entries passed to the backends, as <i>ADAPTER.LEVEL=count</i>, e.g. <i>GCP.INFO=1200</i>.
+	 */
+	String[] getEmittedCounts();
+
+	/**
+	 * @return Numbers of the entries not logged since their level is not enabled, as <i>ADAPTER.LEVEL=count</i>.
+	 */
+	String[] getFilteredCounts();
+
+	/**
+	 * @return Numbers of the GCP entries dropped by the overflow policy or after a failed write, as
+	 * <i>LEVEL=count</i>.
+	 */
+	String[] getDroppedCounts();
+
+	/**
+	 * @return Latency summaries of the measured operations, as <i>TIMER count=.. p50=.. p90=.. p99=.. max=..</i>.
+	 */
+	String[] getLatencies();
+}
@@ -0,0 +1,371 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import com.typesafe.config.ConfigException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runtime severity level control of the Google Cloud Platform loggers, see {@link GcpLoggerAdapterImpl}. The level of
+ * a logger is resolved in the following order;
+ * <ol>
+ * <li>the level set for the logger name, or the nearest parent package of it,</li>
+ * <li>the global level,</li>
+ * <li>the <i>com.galaksiya.logging.gcpLogging.severityLevel</i> configuration.</li>
+ * </ol>
+ * Levels can be changed with the static methods of this class, or through JMX with the {@link GcpLogLevelsMBean}
+ * registered as <i>com.galaksiya.logger:type=GcpLogLevels</i>. Changes take effect immediately on all the loggers and
+ * are not persisted, clearing them returns to the configured level.
+ * <br>
+ * Loggers cache their resolved level together with the version of the levels, so the logging threads only compare the
+ * version unless a level is changed.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class GcpLogLevels {
+
+	/**
+	 * Name of the JMX MBean controlling the levels.
+	 */
+	public static final String OBJECT_NAME = "com.galaksiya.logger:type=GcpLogLevels";
+
+	/**
+	 * Indexes of the levels on the severity level list of the configuration, see {@link #indexOf(Level)}.
+	 */
+	private static final String[] SEVERITY_LEVELS = {"TRACE", "DEBUG", "INFO", "", "WARN", "ERROR", "", "", "FATAL"};
+
+	/**
+	 * Index of the {@link Level#OFF} level, greater than all the indexes of the enabled levels.
+	 */
+	private static final int OFF_INDEX = SEVERITY_LEVELS.length;
+
+	private static final ConcurrentMap<String, Level> LEVELS = new ConcurrentHashMap<>();
+	private static volatile Level globalLevel;
+
+	/**
+	 * Incremented on each level change to invalidate the thresholds cached by the loggers.
+	 */
+	private static final AtomicInteger VERSION = new AtomicInteger();
+
+	/**
+	 * Severity threshold resolved from the last configuration snapshot read.
+	 */
+	private static volatile ConfiguredSeverity configuredSeverity;
+
+	static {
+		registerMBean();
+	}
+
+	private GcpLogLevels() {
+	}
+
+	/**
+	 * Sets the level of all the loggers which do not have a level set for their names.
+	 *
+	 * @param level Level to set, {@code null} to return to the configured level.
+	 */
+	public static void setGlobalLevel(Level level) {
+		globalLevel = level;
+		VERSION.incrementAndGet();
+	}
+
+	/**
+	 * @return Global level, {@code null} if not set.
+	 */
+	public static Level getGlobalLevel() {
+		return globalLevel;
+	}
+
+	/**
+	 * Sets the level of the given logger, and the loggers under it if it is a package name.
+	 *
+	 * @param loggerName Name of the logger, namely the class name or a package name.
+	 * @param level      Level to set, {@code null} to clear the level of the given logger.
+	 */
+	public static void setLevel(String loggerName, Level level) {
+		if (level == null) {
+			LEVELS.remove(loggerName);
+		} else {
+			LEVELS.put(loggerName, level);
+		}
+		VERSION.incrementAndGet();
+	}
+
+	/**
+	 * @param loggerName Name of the logger.
+	 * @return Level set for exactly the given logger name, {@code null} if not set.
+	 */
+	public static Level getLevel(String loggerName) {
+		return LEVELS.get(loggerName);
+	}
+
+	/**
+	 * @return Levels set for the logger names, sorted by the names.
+	 */
+	public static Map<String, Level> getLevels() {
+		return new TreeMap<>(LEVELS);
+	}
+
+	/**
+	 * Clears the global level and the levels of all the loggers, returning to the configured level.
+	 */
+	public static void clear() {
+		LEVELS.clear();
+		globalLevel = null;
+		VERSION.incrementAndGet();
+	}
+
+	/**
+	 * @return Level configured with <i>com.galaksiya.logging.gcpLogging.severityLevel</i>.
+	 */
+	public static Level getConfiguredLevel() {
+		return levelOf(configuredSeverity().index);
+	}
+
+	/**
+	 * Resolves the level the given logger is currently logging with.
+	 *
+	 * @param loggerName Name of the logger.
+	 * @return Effective level of the given logger.
+	 */
+	public static Level getEffectiveLevel(String loggerName) {
+		return resolve(loggerName).level;
+	}
+
+	/**
+	 * Checks whether the given cached threshold is still valid.
+	 *
+	 * @param threshold Threshold to check, may be {@code null}.
+	 * @return {@code true} if neither a level nor the configuration has changed since the threshold is resolved.
+	 */
+	static boolean isCurrent(Threshold threshold) {
+		return threshold != null && threshold.version == VERSION.get()
+				&& threshold.config == GLoggerConfig.getInstance();
+	}
+
+	/**
+	 * Resolves the threshold of the given logger.
+	 *
+	 * @param loggerName Name of the logger.
+	 * @return Threshold of the given logger.
+	 * @throws ConfigException.Missing If the severity level is not configured.
+	 */
+	static Threshold resolve(String loggerName) {
+		// Version is read first, so a change made during the resolution invalidates the result.
+		int version = VERSION.get();
+		ConfiguredSeverity configured = configuredSeverity();
+		Level level = null;
+		String name = loggerName;
+		while (level == null && name != null) {
+			level = LEVELS.get(name);
+			int index = name.lastIndexOf('.');
+			name = index > 0 ? name.substring(0, index) : null;
+		}
+		if (level == null) {
+			level = globalLevel;
+		}
+		int index = level == null ? configured.index : level == Level.OFF ? OFF_INDEX : indexOf(level);
+		return new Threshold(version, configured.config, index);
+	}
+
+	/**
+	 * Finds the index of the given level on the configured severity level list, namely the value to compare with the
+	 * threshold indexes.
+	 *
+	 * @param level Log4j2 level to find the index of.
+	 * @return Index of the given level.
+	 */
+	static int indexOf(Level level) {
+		int intLevel = level.intLevel();
+		if (intLevel <= Level.FATAL.intLevel()) {
+			return 8;
+		} else if (intLevel <= Level.ERROR.intLevel()) {
+			return 5;
+		} else if (intLevel <= Level.WARN.intLevel()) {
+			return 4;
+		} else if (intLevel <= Level.INFO.intLevel()) {
+			return 2;
+		} else if (intLevel <= Level.DEBUG.intLevel()) {
+			return 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Finds the lowest level enabled by the given threshold index.
+	 *
+	 * @param index Threshold index.
+	 * @return Lowest enabled level, {@link Level#OFF} if none of the levels is enabled.
+	 */
+	private static Level levelOf(int index) {
+		if (index <= 0) {
+			return Level.TRACE;
+		} else if (index <= 1) {
+			return Level.DEBUG;
+		} else if (index <= 2) {
+			return Level.INFO;
+		} else if (index <= 4) {
+			return Level.WARN;
+		} else if (index <= 5) {
+			return Level.ERROR;
+		} else if (index <= 8) {
+			return Level.FATAL;
+		}
+		return Level.OFF;
+	}
+
+	private static ConfiguredSeverity configuredSeverity() {
+		GLoggerConfig config = GLoggerConfig.getInstance();
+		ConfiguredSeverity severity = configuredSeverity;
+		if (severity == null || severity.config != config) {
+			severity = new ConfiguredSeverity(config, severity);
+			configuredSeverity = severity;
+		}
+		return severity;
+	}
+
+	private static void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(
+					new StandardMBean(new LevelsMBean(), GcpLogLevelsMBean.class), new ObjectName(OBJECT_NAME));
+		} catch (JMException | RuntimeException e) {
+			StatusLogger.getLogger().warn("GCP log levels cannot be registered to JMX as {}", OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * Threshold of a logger cached until the levels or the configuration change.
+	 */
+	static final class Threshold {
+
+		private final int version;
+		private final GLoggerConfig config;
+
+		/**
+		 * Index of the lowest enabled level on the severity level list, see {@link #indexOf(Level)}.
+		 */
+		final int index;
+
+		/**
+		 * Lowest enabled level.
+		 */
+		final Level level;
+
+		/**
+		 * {@link Level#intLevel()} of the lowest enabled level, a level is enabled if its int level is not greater.
+		 */
+		final int intLevel;
+
+		private Threshold(int version, GLoggerConfig config, int index) {
+			this.version = version;
+			this.config = config;
+			this.index = index;
+			this.level = levelOf(index);
+			this.intLevel = this.level.intLevel();
+		}
+	}
+
+	/**
+	 * Severity threshold of a configuration snapshot.
+	 */
+	private static final class ConfiguredSeverity {
+
+		private final GLoggerConfig config;
+		private final int index;
+
+		/**
+		 * Resolves the threshold of the given configuration. If the configuration does not have a severity level, the
+		 * previous threshold is kept.
+		 *
+		 * @param config   Configuration snapshot to resolve the threshold of.
+		 * @param previous Threshold of the previous snapshot, {@code null} if there is not any.
+		 * @throws ConfigException.Missing If the severity level is not configured and there is no previous threshold.
+		 */
+		private ConfiguredSeverity(GLoggerConfig config, ConfiguredSeverity previous) {
+			int severityIndex;
+			try {
+				severityIndex = Arrays.asList(SEVERITY_LEVELS).indexOf(config.getGcpSeverityLevel());
+			} catch (ConfigException.Missing e) {
+				if (previous == null) {
+					throw e;
+				}
+				severityIndex = previous.index;
+			}
+			this.config = config;
+			this.index = severityIndex;
+		}
+	}
+
+	/**
+	 * JMX view of the levels, levels are exchanged as their names.
+	 */
+	private static final class LevelsMBean implements GcpLogLevelsMBean {
+
+		@Override
+		public String getGlobalLevel() {
+			return nameOf(GcpLogLevels.getGlobalLevel());
+		}
+
+		@Override
+		public void setGlobalLevel(String level) {
+			GcpLogLevels.setGlobalLevel(parse(level));
+		}
+
+		@Override
+		public String getConfiguredLevel() {
+			return nameOf(GcpLogLevels.getConfiguredLevel());
+		}
+
+		@Override
+		public String[] getLoggerLevels() {
+			return GcpLogLevels.getLevels().entrySet().stream()
+					.map(entry -> entry.getKey() + "=" + entry.getValue())
+					.toArray(String[]::new);
+		}
+
+		@Override
+		public String getLoggerLevel(String loggerName) {
+			return nameOf(GcpLogLevels.getLevel(loggerName));
+		}
+
+		@Override
+		public String getEffectiveLevel(String loggerName) {
+			return nameOf(GcpLogLevels.getEffectiveLevel(loggerName));
+		}
+
+		@Override
+		public void setLoggerLevel(String loggerName, String level) {
+			GcpLogLevels.setLevel(loggerName, parse(level));
+		}
+
+		@Override
+		public void clearLoggerLevel(String loggerName) {
+			GcpLogLevels.setLevel(loggerName, null);
+		}
+
+		@Override
+		public void clear() {
+			GcpLogLevels.clear();
+		}
+
+		private static String nameOf(Level level) {
+			return level == null ? null : level.name();
+		}
+
+		private static Level parse(String level) {
+			return level == null || level.trim().isEmpty() ? null : Level.valueOf(level.trim());
+		}
+	}
+}
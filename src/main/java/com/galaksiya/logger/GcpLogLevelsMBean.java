@@ -0,0 +1,59 @@
+package com.galaksiya.logger;
+
+/**
+ * JMX management interface of the {@link GcpLogLevels}. Levels are the Log4j2 level names, e.g. <i>DEBUG</i>; an empty
+ * or {@code null} level clears the level instead of setting it.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public interface GcpLogLevelsMBean {
+
+	/**
+	 * @return Global level, {@code null} if not set.
+	 */
+	String getGlobalLevel();
+
+	/**
+	 * @param level Level of all the loggers which do not have a level set for their names.
+	 */
+	void setGlobalLevel(String level);
+
+	/**
+	 * @return Level configured with <i>com.galaksiya.logging.gcpLogging.severityLevel</i>.
+	 */
+	String getConfiguredLevel();
+
+	/**
+	 * @return Levels set for the logger names, as <i>name=LEVEL</i>.
+	 */
+	String[] getLoggerLevels();
+
+	/**
+	 * @param loggerName Name of the logger.
+	 * @return Level set for exactly the given logger name, {@code null} if not set.
+	 */
+	String getLoggerLevel(String loggerName);
+
+	/**
+	 * @param loggerName Name of the logger.
+	 * @return Level the given logger is currently logging with.
+	 */
+	String getEffectiveLevel(String loggerName);
+
+	/**
+	 * @param loggerName Name of the logger, namely the class name or a package name.
+	 * @param level      Level of the given logger, and the loggers under it if it is a package name.
+	 */
+	void setLoggerLevel(String loggerName, String level);
+
+	/**
+	 * @param loggerName Name of the logger to clear the level of.
+	 */
+	void clearLoggerLevel(String loggerName);
+
+	/**
+	 * Clears the global level and the levels of all the loggers, returning to the configured level.
+	 */
+	void clear();
+}
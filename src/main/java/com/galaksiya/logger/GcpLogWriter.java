@@ -0,0 +1,586 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.OverflowPolicy;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Logging;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
+import com.google.cloud.logging.Synchronicity;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background writer of the {@link GcpLoggerAdapterImpl}. Log entries are put on a bounded in-memory queue by the
+ * logging threads and a single daemon thread drains the queue into multi-entry {@link Logging#write(Iterable,
+ * Logging.WriteOption...)} calls. A batch is sent when one of the following is reached;
+ * <ul>
+ * <li>the configured batch size,</li>
+ * <li>the configured batch byte limit,</li>
+ * <li>the configured linger time since the first entry of the batch is taken.</li>
+ * </ul>
+ * The writer switches the given {@link Logging} service to {@link Synchronicity#SYNC} since the writes are already
+ * performed off the logging threads and the write result must be known by the writer.
+ * <br>
+ * If a {@link GcpSpillFile} is configured, the entries that do not fit into the queue are appended to the spill file
+ * instead of being written on the logging threads, and a batch that cannot be written is retried instead of being
+ * discarded. While the spill file has entries, the new entries are appended to it as well; the writer writes the queued
+ * entries and then replays the spill file batch by batch, so the entries are written in order. Failed writes are
+ * retried after a delay growing from one second up to {@value #MAX_RETRY_DELAY_MILLIS} milliseconds. A batch still
+ * failing when the writer is closed is appended to the spill file, to be replayed on the next start.
+ * <br>
+ * Only the transient failures are retried, namely the UNAVAILABLE, DEADLINE_EXCEEDED and RESOURCE_EXHAUSTED responses
+ * and the I/O failures. A batch rejected for any other reason, e.g. PERMISSION_DENIED, is discarded, so it does not
+ * block the writer. A batch rejected with INVALID_ARGUMENT, e.g. for an oversized entry, is split in halves and written
+ * again, so only the invalid entries are discarded.
+ * <br>
+ * If neither the queue nor the spill file has room for an entry, the configured {@link OverflowPolicy} is applied. With
+ * {@link OverflowPolicy#DROP_BELOW_LEVEL}, a tenth of the queue capacity is reserved in a second queue for the entries
+ * at or above the overflow level, which is drained ahead of the first one; so the important entries are kept without
+ * scanning the queue or waiting for room. The entries dropped by the policy, or discarded after a failed write, are
+ * counted per {@link Severity}; once the queue is at most half full, the writer writes a WARNING entry with the counts
+ * of the entries dropped since the previous one;
+ * <pre>
+ * {"_message": "GLogger dropped 1200 entries", "_droppedCount": 1200, "_droppedCounts": {"DEBUG": 1000, "INFO": 200},
+ *  "_overflowPolicy": "DROP_BELOW_LEVEL"}
+ * </pre>
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+class GcpLogWriter implements Runnable {
+
+	/**
+	 * Status logger to report the write failures. {@link GLogger} cannot be used for this purpose since it may end up
+	 * on this writer again.
+	 */
+	private static final Logger STATUS_LOGGER = StatusLogger.getLogger();
+
+	/**
+	 * Approximate size of an entry without its payload, namely log name, severity, resource and timestamps.
+	 */
+	private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+	private static final long MIN_RETRY_DELAY_MILLIS = 1000;
+	private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+	private final Logging logging;
+	private final BlockingQueue<LogEntry> queue;
+	private final int batchSize;
+	private final long lingerNanos;
+	private final long maxBatchBytes;
+	private final Thread thread;
+
+	/**
+	 * Spill file to keep the entries that cannot be written, {@code null} if not configured.
+	 */
+	private final GcpSpillFile spill;
+
+	private final OverflowPolicy overflowPolicy;
+	private final long overflowBlockNanos;
+
+	/**
+	 * Entries below this severity are dropped with {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+	 */
+	private final Severity overflowSeverity;
+
+	/**
+	 * Queue of the entries at or above the {@link #overflowSeverity} which do not fit into the {@link #queue}, only with
+	 * {@link OverflowPolicy#DROP_BELOW_LEVEL}, {@code null} otherwise.
+	 */
+	private final BlockingQueue<LogEntry> reserved;
+
+	/**
+	 * Numbers of the dropped entries by {@link Severity#ordinal()}, and the numbers already reported with a drop entry,
+	 * accessed only by the writer thread.
+	 */
+	private final LongAdder[] dropped = new LongAdder[Severity.values().length];
+	private final long[] reportedDrops = new long[Severity.values().length];
+
+	/**
+	 * Last entry added by {@link #writeDropEntry()}. It is not counted as a dropped entry if it cannot be written,
+	 * since the drops it reports are already counted.
+	 */
+	private LogEntry dropEntry;
+
+	/**
+	 * Time to replay the spill file again after a failed write, in {@link System#nanoTime()}, and the delay to wait
+	 * after the next failure.
+	 */
+	private long retryAt;
+	private long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+
+	/**
+	 * Failure of the last write which is not written.
+	 */
+	private RuntimeException lastFailure;
+
+	/**
+	 * Entry taken from the queue that did not fit into the previous batch because of the byte limit. It will be the
+	 * first entry of the next batch.
+	 */
+	private LogEntry carry;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Creates and starts a new writer.
+	 *
+	 * @param logging             Cloud Logging service to write the entries with.
+	 * @param queueCapacity       Maximum number of entries waiting to be written.
+	 * @param batchSize           Maximum number of entries to send with a single write call.
+	 * @param lingerMillis        Maximum time to wait for a batch to fill up before sending it.
+	 * @param maxBatchBytes       Maximum approximate size of a single write call in bytes.
+	 * @param spill               Spill file to keep the entries that cannot be written, may be {@code null}.
+	 * @param overflowPolicy      Policy to apply when there is no room for an entry.
+	 * @param overflowBlockMillis Maximum time to wait for room with {@link OverflowPolicy#BLOCK}.
+	 * @param overflowSeverity    Entries below this severity are dropped with {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+	 */
+	GcpLogWriter(Logging logging, int queueCapacity, int batchSize, long lingerMillis, long maxBatchBytes,
+			GcpSpillFile spill, OverflowPolicy overflowPolicy, long overflowBlockMillis, Severity overflowSeverity) {
+		this.logging = logging;
+		this.logging.setWriteSynchronicity(Synchronicity.SYNC);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+		this.maxBatchBytes = maxBatchBytes;
+		this.spill = spill;
+		this.retryAt = System.nanoTime();
+		this.overflowPolicy = overflowPolicy;
+		this.overflowBlockNanos = TimeUnit.MILLISECONDS.toNanos(overflowBlockMillis);
+		this.overflowSeverity = overflowSeverity;
+		this.reserved = overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL ?
+				new ArrayBlockingQueue<>(Math.max(queueCapacity / 10, 1)) : null;
+		for (int i = 0; i < this.dropped.length; i++) {
+			this.dropped[i] = new LongAdder();
+		}
+
+		this.thread = new Thread(this, "glogger-gcp-writer");
+		this.thread.setDaemon(true);
+		this.thread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::close, "glogger-gcp-writer-shutdown"));
+	}
+
+	/**
+	 * Puts the given entry on the queue, or appends it to the spill file if the queue is full or the spill file already
+	 * has entries. If there is no room for the entry, applies the overflow policy.
+	 *
+	 * @param entry Log entry to write.
+	 * @return {@code false} if the entry must be written by the caller, namely the writer is closed or the overflow
+	 * policy is {@link OverflowPolicy#WRITE}, {@code true} if the entry is queued, spilled or dropped.
+	 */
+	boolean offer(LogEntry entry) {
+		if (!this.running) {
+			return false;
+		}
+		boolean accepted;
+		if (this.spill == null) {
+			accepted = this.queue.offer(entry);
+		} else {
+			// The spill file is locked only while it has entries, isEmpty reads a volatile flag.
+			accepted = !this.spill.isEmpty() ? this.spill.append(entry) :
+					this.queue.offer(entry) || this.spill.append(entry);
+		}
+		return accepted || overflow(entry);
+	}
+
+	/**
+	 * Applies the overflow policy to the given entry, which does not fit into the queue.
+	 *
+	 * @param entry Log entry to write.
+	 * @return {@code false} if the entry must be written by the caller, {@code true} if it is queued or dropped.
+	 */
+	private boolean overflow(LogEntry entry) {
+		switch (this.overflowPolicy) {
+			case BLOCK:
+				if (!offerWaiting(entry)) {
+					drop(entry);
+				}
+				return true;
+			case DROP_NEWEST:
+				drop(entry);
+				return true;
+			case DROP_OLDEST:
+				LogEntry oldest;
+				while ((oldest = this.queue.poll()) != null) {
+					drop(oldest);
+					if (this.queue.offer(entry)) {
+						return true;
+					}
+				}
+				if (!this.queue.offer(entry)) {
+					drop(entry);
+				}
+				return true;
+			case DROP_BELOW_LEVEL:
+				if (entry.getSeverity().compareTo(this.overflowSeverity) < 0 || !this.reserved.offer(entry)) {
+					drop(entry);
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Waits for room in the queue up to the configured block time.
+	 *
+	 * @param entry Log entry to queue.
+	 * @return {@code true} if the entry is queued.
+	 */
+	private boolean offerWaiting(LogEntry entry) {
+		try {
+			return this.queue.offer(entry, this.overflowBlockNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void drop(LogEntry entry) {
+		Severity severity = entry.getSeverity() == null ? Severity.DEFAULT : entry.getSeverity();
+		this.dropped[severity.ordinal()].increment();
+		GLoggerMetrics.dropped(severity);
+	}
+
+	/**
+	 * Returns the number of the entries with the given severity dropped so far, either by the overflow policy or
+	 * after a failed write.
+	 *
+	 * @param severity Severity of the entries.
+	 * @return Number of the dropped entries.
+	 */
+	long getDroppedCount(Severity severity) {
+		return this.dropped[severity.ordinal()].sum();
+	}
+
+	/**
+	 * Writes an entry with the counts of the entries dropped since the previous one, if there are any and the queue is
+	 * at most half full. The entry is written as a batch of its own, so the batches filled up to the batch limits are
+	 * not exceeded.
+	 */
+	private void writeDropEntry() {
+		if (this.queue.size() > this.queue.remainingCapacity()) {
+			return;
+		}
+		long total = 0;
+		for (Severity severity : Severity.values()) {
+			total += this.dropped[severity.ordinal()].sum() - this.reportedDrops[severity.ordinal()];
+		}
+		if (total <= 0) {
+			return;
+		}
+		Map<String, Object> counts = new LinkedHashMap<>();
+		total = 0;
+		for (Severity severity : Severity.values()) {
+			long count = this.dropped[severity.ordinal()].sum();
+			long delta = count - this.reportedDrops[severity.ordinal()];
+			if (delta > 0) {
+				counts.put(severity.name(), delta);
+				total += delta;
+				this.reportedDrops[severity.ordinal()] = count;
+			}
+		}
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("_message", "GLogger dropped " + total + " entries");
+		map.put("_droppedCount", total);
+		map.put("_droppedCounts", counts);
+		map.put("_overflowPolicy", this.overflowPolicy.name());
+		this.dropEntry = LogEntry.newBuilder(Payload.JsonPayload.of(map)).setSeverity(Severity.WARNING)
+				.setLogName(GcpLogWriter.class.getName()).setResource(GcpLoggingClient.RESOURCE).build();
+		List<LogEntry> batch = new ArrayList<>(1);
+		batch.add(this.dropEntry);
+		writeRetrying(batch);
+	}
+
+	/**
+	 * Counts the given entry of a batch which cannot be written as dropped, unless it is the {@link #dropEntry}.
+	 *
+	 * @param entry Log entry to discard.
+	 */
+	private void discard(LogEntry entry) {
+		if (entry != this.dropEntry) {
+			drop(entry);
+		}
+	}
+
+	@Override
+	public void run() {
+		List<LogEntry> batch = new ArrayList<>(this.batchSize);
+		while (this.running || this.carry != null || !this.queue.isEmpty()
+				|| this.reserved != null && !this.reserved.isEmpty()) {
+			try {
+				// Do not wait for new entries while the spill file is due to be replayed.
+				fillBatch(batch, !isReplayDue());
+			} catch (InterruptedException e) {
+				// Closing, drain whatever is left without waiting.
+				this.running = false;
+			}
+			writeDropEntry();
+			if (!batch.isEmpty()) {
+				writeRetrying(batch);
+				batch.clear();
+			} else if (isReplayDue()) {
+				// The queued entries are written, the spilled ones are the next.
+				replay(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return {@code true} if the spill file has entries and the retry delay after the last failure is passed.
+	 */
+	private boolean isReplayDue() {
+		return this.spill != null && !this.spill.isEmpty() && System.nanoTime() - this.retryAt >= 0;
+	}
+
+	/**
+	 * Writes the oldest batch of the spill file and removes it from the file if written.
+	 *
+	 * @param batch Empty list to use for the batch.
+	 */
+	private void replay(List<LogEntry> batch) {
+		long position = this.spill.peek(this.batchSize, this.maxBatchBytes, batch);
+		if (batch.isEmpty()) {
+			return;
+		}
+		if (write(batch)) {
+			this.spill.commit(position);
+		} else if (!isRetryable(this.lastFailure)) {
+			// Replaying a rejected batch again would fail forever, move past it.
+			reject(batch, this.lastFailure);
+			this.spill.commit(position);
+		}
+	}
+
+	/**
+	 * Writes the given batch, retrying it until written if there is a spill file to keep the new entries in the
+	 * meantime. The batch is discarded if it cannot be written and there is no spill file, and it is appended to the
+	 * spill file if the writer is closed before it is written. A batch rejected by Cloud Logging is not retried, see
+	 * {@link #reject(List, RuntimeException)}.
+	 *
+	 * @param batch Entries to write.
+	 */
+	private void writeRetrying(List<LogEntry> batch) {
+		while (!write(batch)) {
+			if (!isRetryable(this.lastFailure)) {
+				reject(batch, this.lastFailure);
+				return;
+			}
+			if (this.spill == null || !this.running) {
+				spill(batch);
+				return;
+			}
+			// Wait in short steps to notice closing.
+			long remaining;
+			while (this.running && (remaining = this.retryAt - System.nanoTime()) > 0) {
+				try {
+					Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1, 100));
+				} catch (InterruptedException e) {
+					this.running = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles a batch rejected by Cloud Logging. A batch of more than one entry rejected with INVALID_ARGUMENT is split
+	 * in halves which are written separately, to discard only the invalid entries. Otherwise the batch is discarded.
+	 *
+	 * @param batch   Rejected entries.
+	 * @param failure Failure of the write.
+	 */
+	private void reject(List<LogEntry> batch, RuntimeException failure) {
+		if (batch.size() > 1 && statusCodeOf(failure) == StatusCode.Code.INVALID_ARGUMENT) {
+			int half = batch.size() / 2;
+			writeRetrying(new ArrayList<>(batch.subList(0, half)));
+			writeRetrying(new ArrayList<>(batch.subList(half, batch.size())));
+			return;
+		}
+		for (LogEntry entry : batch) {
+			discard(entry);
+		}
+		STATUS_LOGGER.error("GLogger discarded {} entries rejected by Cloud Logging", batch.size(), failure);
+	}
+
+	/**
+	 * Checks whether the given write failure is transient, namely a response with one of the UNAVAILABLE,
+	 * DEADLINE_EXCEEDED and RESOURCE_EXHAUSTED codes, or an I/O failure without a response.
+	 *
+	 * @param failure Failure of a write.
+	 * @return {@code true} if the write should be retried.
+	 */
+	private static boolean isRetryable(RuntimeException failure) {
+		StatusCode.Code code = statusCodeOf(failure);
+		if (code == null) {
+			for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+				if (cause instanceof IOException) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return code == StatusCode.Code.UNAVAILABLE || code == StatusCode.Code.DEADLINE_EXCEEDED
+				|| code == StatusCode.Code.RESOURCE_EXHAUSTED;
+	}
+
+	/**
+	 * @param failure Failure of a write.
+	 * @return Status code of the response failing the write, {@code null} if there is no response.
+	 */
+	private static StatusCode.Code statusCodeOf(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ApiException) {
+				return ((ApiException) cause).getStatusCode().getCode();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Appends the entries of the given batch to the spill file. Entries are discarded if there is no spill file or it
+	 * is full.
+	 *
+	 * @param batch Entries to append.
+	 */
+	private void spill(List<LogEntry> batch) {
+		int spilled = 0;
+		if (this.spill != null) {
+			while (spilled < batch.size() && this.spill.append(batch.get(spilled))) {
+				spilled++;
+			}
+		}
+		for (int i = spilled; i < batch.size(); i++) {
+			discard(batch.get(i));
+		}
+		if (spilled < batch.size()) {
+			STATUS_LOGGER.error("GLogger discarded {} entries, Cloud Logging cannot be written and the spill file is "
+					+ "{}", batch.size() - spilled, this.spill == null ? "not configured" : "full");
+		}
+	}
+
+	/**
+	 * Fills the given batch until one of the batch limits is reached, taking the entries of the {@link #reserved} queue
+	 * first.
+	 *
+	 * @param batch Empty list to fill.
+	 * @param wait  Waits for the entries to arrive if {@code true}, takes only the queued entries otherwise.
+	 * @throws InterruptedException If the writer thread is interrupted while waiting for entries.
+	 */
+	private void fillBatch(List<LogEntry> batch, boolean wait) throws InterruptedException {
+		LogEntry first = this.carry;
+		this.carry = null;
+		if (first == null && this.reserved != null) {
+			first = this.reserved.poll();
+		}
+		if (first == null) {
+			first = this.running && wait ? this.queue.poll(1, TimeUnit.SECONDS) : this.queue.poll();
+			if (first == null) {
+				return;
+			}
+		}
+		batch.add(first);
+		long bytes = estimateSize(first);
+		long deadline = System.nanoTime() + this.lingerNanos;
+		while (batch.size() < this.batchSize) {
+			LogEntry next = this.reserved != null ? this.reserved.poll() : null;
+			if (next == null) {
+				next = this.queue.poll();
+			}
+			if (next == null) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || !this.running || !wait) {
+					return;
+				}
+				next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+				if (next == null) {
+					return;
+				}
+			}
+			long size = estimateSize(next);
+			if (bytes + size > this.maxBatchBytes) {
+				this.carry = next;
+				return;
+			}
+			batch.add(next);
+			bytes += size;
+		}
+	}
+
+	/**
+	 * Writes the given batch. The failure is kept as the {@link #lastFailure}; transient failures are reported to the
+	 * status logger and delay the next replay of the spill file.
+	 *
+	 * @param batch Entries to write.
+	 * @return {@code true} if the batch is written.
+	 */
+	private boolean write(List<LogEntry> batch) {
+		try {
+			if (GLoggerMetrics.isEnabled()) {
+				long startNanos = System.nanoTime();
+				this.logging.write(batch);
+				GLoggerMetrics.record(GLoggerMetrics.Timer.GCP_BATCH_WRITE, System.nanoTime() - startNanos);
+			} else {
+				this.logging.write(batch);
+			}
+			this.retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+			return true;
+		} catch (RuntimeException e) {
+			this.lastFailure = e;
+			if (isRetryable(e)) {
+				STATUS_LOGGER.error("GLogger could not write {} entries to Cloud Logging", batch.size(), e);
+				this.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.retryDelayMillis);
+				this.retryDelayMillis = Math.min(this.retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Approximates the serialized size of the given entry.
+	 *
+	 * @param entry Log entry to measure.
+	 * @return Approximate size of the entry in bytes.
+	 */
+	private static long estimateSize(LogEntry entry) {
+		Payload<?> payload = entry.getPayload();
+		if (payload instanceof Payload.JsonPayload) {
+			return ENTRY_OVERHEAD_BYTES + ((Payload.JsonPayload) payload).getData().getSerializedSize();
+		} else if (payload instanceof Payload.StringPayload) {
+			return ENTRY_OVERHEAD_BYTES + ((Payload.StringPayload) payload).getData().length();
+		}
+		return ENTRY_OVERHEAD_BYTES;
+	}
+
+	/**
+	 * Stops accepting new entries, writes the queued ones and waits for the writer thread to finish. The entries left
+	 * in the spill file are replayed when the spill file is opened again.
+	 */
+	void close() {
+		this.running = false;
+		try {
+			this.thread.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.spill != null) {
+			try {
+				this.spill.close();
+			} catch (IOException e) {
+				STATUS_LOGGER.warn("GLogger spill file cannot be closed", e);
+			}
+		}
+	}
+}
@@ -1,15 +1,10 @@
 package com.galaksiya.logger;
 
 import com.galaksiya.logger.config.GLoggerConfig;
-import com.google.auth.oauth2.ServiceAccountCredentials;
-import com.google.cloud.MonitoredResource;
-import com.google.cloud.logging.*;
-import org.apache.commons.lang3.exception.ExceptionUtils;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
 import org.apache.logging.log4j.Level;
 
-import java.io.FileInputStream;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +13,9 @@ import java.util.Map;
  * Stackdriver from the current Google App Engine of Google Compute Engine it's working on. To use this logger,
  * com.galaksiya.logger.useGcpLogging property must be configured as true, and com.galaksiya.logger.gcpLogging.logName
  * and com.galaksiya.logger.gcpLogging.severityLevel properties must be specified.
+ * <br>
+ * Adapters only carry their log name and severity threshold, the Cloud Logging service is shared through {@link
+ * GcpLoggingClient}. Severity thresholds can be changed at runtime per logger or globally, see {@link GcpLogLevels}.
  *
  * @author Berkay Akdal
  * @author Uğur Üntürk
@@ -36,220 +34,246 @@ class GcpLoggerAdapterImpl implements LoggerAdapter {
 	 */
 	private static final String STACK_TRACE = "_stackTrace";
 
-	private Logging logging;
-	private String logName;
-	private int severityLevel;
+	/**
+	 * Constant to bind stack trace ids. Throwables with the same classes and frames have the same <i>_stackTraceId</i>,
+	 * so a stack trace that is only referred to can be found with it, see {@link StackTraceRenderer}.
+	 */
+	private static final String STACK_TRACE_ID = "_stackTraceId";
+
+	/**
+	 * Shared Cloud Logging client of the configured project and credentials.
+	 */
+	private final GcpLoggingClient client;
+	private final String logName;
+
+	/**
+	 * Severity threshold of this adapter, resolved again only when the levels or the configuration change. See {@link
+	 * GcpLogLevels}.
+	 */
+	private volatile GcpLogLevels.Threshold threshold;
 
 	GcpLoggerAdapterImpl(Class<?> type) {
-		GLoggerConfig gLoggerConfig = GLoggerConfig.getInstance();
-		severityLevel = Arrays.asList("TRACE", "DEBUG", "INFO", "", "WARN", "ERROR", "", "", "FATAL")
-				.indexOf(gLoggerConfig.getGcpSeverityLevel());
+		this(type, GcpLoggingClient.get(GLoggerConfig.getInstance()));
+	}
+
+	/**
+	 * Creates an adapter writing through the given client instead of the shared one of the configured project.
+	 *
+	 * @param type   Class to use as the log name.
+	 * @param client Cloud Logging client to write the entries with.
+	 */
+	GcpLoggerAdapterImpl(Class<?> type, GcpLoggingClient client) {
 		logName = type.getName();
-		try {
-			FileInputStream credentialsStream = new FileInputStream(gLoggerConfig.getGcpLoggingCredentialsPath());
-			logging = LoggingOptions.newBuilder().setCredentials(ServiceAccountCredentials.fromStream(
-					credentialsStream)).setProjectId(gLoggerConfig.getProjectId()).build().getService();
-		} catch (Exception e) {
-			logging = LoggingOptions.getDefaultInstance().getService();
-			warn("an error occurred during initializing gcp logging with service credentials", e);
-		}
+		this.client = client;
+		threshold = GcpLogLevels.resolve(logName); // Fail fast if the severity level is not configured.
 	}
 
 	@Override
 	public void debug(String message, Object... params) {
-		if (severityLevel < 2) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEBUG);
-		}
+		log(Level.DEBUG, message, null, params);
 	}
 
 	@Override
 	public void debug(Map<String, Object> map) {
-		if (severityLevel < 2) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEBUG);
-		}
+		logMap(Level.DEBUG, map, null);
 	}
 
 	@Override
 	public void debug(String message, Throwable throwable, Object... params) {
-		if (severityLevel < 2) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEBUG);
-		}
+		log(Level.DEBUG, message, throwable, params);
 	}
 
 	@Override
 	public void error(String message, Object... params) {
-		if (severityLevel < 6) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.ALERT);
-		}
+		log(Level.ERROR, message, null, params);
 	}
 
 	@Override
 	public void error(String message, Throwable throwable, Object... params) {
-		if (severityLevel < 6) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.ALERT);
-		}
+		log(Level.ERROR, message, throwable, params);
 	}
 
 	@Override
 	public void error(Map<String, Object> map) {
-		if (severityLevel < 6) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.ALERT);
-		}
+		logMap(Level.ERROR, map, null);
 	}
 
 	@Override
 	public void error(Map<String, Object> map, Throwable t) {
-		if (severityLevel < 6) {
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(t));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.ALERT);
-		}
+		logMap(Level.ERROR, map, t);
 	}
 
 	@Override
 	public void fatal(String message, Object... params) {
-		if (severityLevel < 9) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.EMERGENCY);
-		}
+		log(Level.FATAL, message, null, params);
 	}
 
 	@Override
 	public void fatal(String message, Throwable throwable, Object... params) {
-		if (severityLevel < 9) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.EMERGENCY);
-		}
+		log(Level.FATAL, message, throwable, params);
 	}
 
 	@Override
 	public void fatal(Map<String, Object> map) {
-		if (severityLevel < 9) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.EMERGENCY);
-		}
+		logMap(Level.FATAL, map, null);
 	}
 
 	@Override
 	public void info(String message, Object... params) {
-		if (severityLevel < 3) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.INFO);
-		}
+		log(Level.INFO, message, null, params);
 	}
 
 	@Override
 	public void info(String message, Throwable throwable, Object... params) {
-		if (severityLevel < 3) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.INFO);
-		}
+		log(Level.INFO, message, throwable, params);
 	}
 
 	@Override
 	public void info(Map<String, Object> map) {
-		if (severityLevel < 3) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.INFO);
-		}
+		logMap(Level.INFO, map, null);
 	}
 
 	@Override
 	public void trace(String message, Object... params) {
-		if (severityLevel == 0) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEFAULT);
-		}
+		log(Level.TRACE, message, null, params);
 	}
 
 	@Override
 	public void trace(String message, Throwable throwable, Object... params) {
-		if (severityLevel == 0) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEFAULT);
-		}
+		log(Level.TRACE, message, throwable, params);
 	}
 
 	@Override
 	public void trace(Map<String, Object> map) {
-		if (severityLevel == 0) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.DEFAULT);
-		}
+		logMap(Level.TRACE, map, null);
 	}
 
 	@Override
 	public void warn(String message, Object... params) {
-		if (severityLevel < 5) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.WARNING);
-		}
+		log(Level.WARN, message, null, params);
 	}
 
 	@Override
 	public void warn(String message, Throwable throwable, Object... params) {
-		if (severityLevel < 5) {
-			Map<String, Object> map = new HashMap<>();
-			map.put(MESSAGE, String.format(message, params));
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.WARNING);
-		}
+		log(Level.WARN, message, throwable, params);
 	}
 
 	@Override
 	public void warn(Map<String, Object> map) {
-		if (severityLevel < 5) {
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.WARNING);
-		}
+		logMap(Level.WARN, map, null);
 	}
 
 	@Override
 	public void warn(Map<String, Object> map, Throwable t) {
-		if (severityLevel < 5) {
-			map.put(STACK_TRACE, ExceptionUtils.getStackTrace(t));
+		logMap(Level.WARN, map, t);
+	}
 
-			sendLogAsynchronously(Payload.JsonPayload.of(map), Severity.WARNING);
-		}
+	@Override
+	public void log(Level level, Map<String, Object> map, Throwable throwable) {
+		logMap(level, map, throwable);
 	}
 
 	@Override
 	public Level getLevel() {
-		return Level.INFO;
+		return threshold().level;
+	}
+
+	@Override
+	public boolean isEnabled(Level level) {
+		if (level.intLevel() <= threshold().intLevel) {
+			return true;
+		}
+		GLoggerMetrics.filtered(GLoggerMetrics.Adapter.GCP, level);
+		return false;
 	}
 
-	private void sendLogAsynchronously(Payload payload, Severity severity) {
-		LogEntry log = LogEntry.newBuilder(payload).setSeverity(severity).setLogName(this.logName)
-				.setResource(MonitoredResource.newBuilder("global").build()).build();
-		logging.write(Collections.singleton(log));
-		logging.flush();
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object[] params) {
+		if (isEnabled(level)) {
+			Map<String, Object> map = new HashMap<>();
+			map.put(MESSAGE, params == null || params.length == 0 ? message : MessageTemplate.format(message, params));
+			if (throwable != null) {
+				putStackTrace(map, throwable);
+			}
+
+			sendLogAsynchronously(level, map);
+		}
+	}
+
+	private void logMap(Level level, Map<String, Object> map, Throwable t) {
+		if (isEnabled(level)) {
+			sendLogAsynchronously(level, withStackTrace(map, t));
+		}
+	}
+
+	/**
+	 * Copies the given map with the stack trace of the given throwable, so maps that are read-only, like the {@link
+	 * OperationLog} field views, or owned by the caller are not modified.
+	 *
+	 * @param map Map to copy.
+	 * @param t   Throwable to add the stack trace of, may be {@code null}.
+	 * @return Copy of the given map with the stack trace, or the given map itself if there is no throwable.
+	 */
+	private Map<String, Object> withStackTrace(Map<String, Object> map, Throwable t) {
+		if (t == null) {
+			return map;
+		}
+		Map<String, Object> copy = new HashMap<>(map);
+		putStackTrace(copy, t);
+		return copy;
+	}
+
+	private void putStackTrace(Map<String, Object> map, Throwable t) {
+		StackTraceRenderer.Rendered rendered = client.renderStackTrace(t);
+		map.put(STACK_TRACE, rendered.text);
+		map.put(STACK_TRACE_ID, rendered.id);
+	}
+
+	private GcpLogLevels.Threshold threshold() {
+		GcpLogLevels.Threshold current = this.threshold;
+		if (!GcpLogLevels.isCurrent(current)) {
+			current = GcpLogLevels.resolve(this.logName);
+			this.threshold = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Finds the GCP {@link Severity} to send the logs of given level with.
+	 *
+	 * @param level Log4j2 level to find the severity of.
+	 * @return Severity of the given level.
+	 */
+	static Severity severityOf(Level level) {
+		int intLevel = level.intLevel();
+		if (intLevel <= Level.FATAL.intLevel()) {
+			return Severity.EMERGENCY;
+		} else if (intLevel <= Level.ERROR.intLevel()) {
+			return Severity.ALERT;
+		} else if (intLevel <= Level.WARN.intLevel()) {
+			return Severity.WARNING;
+		} else if (intLevel <= Level.INFO.intLevel()) {
+			return Severity.INFO;
+		} else if (intLevel <= Level.DEBUG.intLevel()) {
+			return Severity.DEBUG;
+		}
+		return Severity.DEFAULT;
+	}
+
+	/**
+	 * Converts the given map to a JSON payload and hands it over to the client, counting and timing it if the metrics
+	 * are enabled.
+	 *
+	 * @param level Level of the log.
+	 * @param map   Fields of the log.
+	 */
+	private void sendLogAsynchronously(Level level, Map<String, Object> map) {
+		boolean metrics = GLoggerMetrics.isEnabled();
+		long startNanos = metrics ? System.nanoTime() : 0;
+		client.write(this.logName, Payload.JsonPayload.of(map), severityOf(level));
+		if (metrics) {
+			GLoggerMetrics.record(GLoggerMetrics.Timer.GCP_WRITE, System.nanoTime() - startNanos);
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.GCP, level);
+		}
 	}
 }
@@ -0,0 +1,231 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import com.galaksiya.logger.config.OverflowPolicy;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.google.cloud.MonitoredResource;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Logging;
+import com.google.cloud.logging.LoggingOptions;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide Cloud Logging client shared by the {@link GcpLoggerAdapterImpl} instances. Creating a {@link Logging}
+ * service parses the service account credentials and opens a gRPC channel, so the clients are kept in a registry keyed
+ * by the project id and the credentials path and created only once for each pair. The adapters are cheap views over
+ * these clients carrying only their log name and severity threshold.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+class GcpLoggingClient {
+
+	/**
+	 * Monitored resource of the log entries. It is the same for all entries, so it is built only once.
+	 */
+	static final MonitoredResource RESOURCE = MonitoredResource.newBuilder("global").build();
+
+	/**
+	 * Registry of the created clients.
+	 */
+	private static final ConcurrentMap<Key, GcpLoggingClient> CLIENTS = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the shared client for the project id and credentials path configured with the given configuration,
+	 * creating it if necessary.
+	 *
+	 * @param config Configuration to read the GCP logging properties from.
+	 * @return Shared client for the configured project and credentials.
+	 */
+	static GcpLoggingClient get(GLoggerConfig config) {
+		String projectId = null;
+		String credentialsPath = null;
+		try {
+			projectId = config.getProjectId();
+			credentialsPath = config.getGcpLoggingCredentialsPath();
+		} catch (RuntimeException ignored) {
+			// Missing properties, the default credentials will be used.
+		}
+		return CLIENTS.computeIfAbsent(new Key(projectId, credentialsPath, config.getGcpLoggingFactory()),
+				key -> new GcpLoggingClient(key, config));
+	}
+
+	private final Logging logging;
+
+	/**
+	 * Background writer to hand the log entries over to, {@code null} if asynchronous logging is disabled with the
+	 * com.galaksiya.logging.gcpLogging.async configuration.
+	 */
+	private final GcpLogWriter writer;
+
+	/**
+	 * Renderer of the stack traces logged through this client, shared by its adapters so the repeated stack traces are
+	 * rendered once.
+	 */
+	private final StackTraceRenderer stackTraceRenderer;
+
+	private GcpLoggingClient(Key key, GLoggerConfig config) {
+		Logging service;
+		Exception initializationError = null;
+		try {
+			service = createLogging(key);
+		} catch (Exception e) {
+			service = LoggingOptions.getDefaultInstance().getService();
+			initializationError = e;
+		}
+		this.logging = service;
+		this.writer = createWriter(service, config);
+		this.stackTraceRenderer = createStackTraceRenderer(config);
+
+		if (initializationError != null) {
+			Map<String, Object> map = new HashMap<>();
+			map.put("_message", "an error occurred during initializing gcp logging with service credentials");
+			map.put("_stackTrace", ExceptionUtils.getStackTrace(initializationError));
+			write(GcpLoggingClient.class.getName(), Payload.JsonPayload.of(map), Severity.WARNING);
+		}
+	}
+
+	/**
+	 * Creates a client over the given {@link Logging} service. The created client is not registered, so it is not
+	 * shared with the adapters created through {@link #get(GLoggerConfig)}.
+	 *
+	 * @param logging Cloud Logging service to write the entries with.
+	 * @param config  Configuration to read the writer properties from.
+	 */
+	GcpLoggingClient(Logging logging, GLoggerConfig config) {
+		this.logging = logging;
+		this.writer = createWriter(logging, config);
+		this.stackTraceRenderer = createStackTraceRenderer(config);
+	}
+
+	/**
+	 * Creates the service with the configured {@link GcpLoggingFactory}, or with the configured credentials if there
+	 * is no factory.
+	 *
+	 * @param key Project, credentials and factory of the client.
+	 * @return Created service.
+	 * @throws Exception If the factory cannot be instantiated or fails, or the credentials cannot be read.
+	 */
+	private static Logging createLogging(Key key) throws Exception {
+		if (key.factoryName != null) {
+			return Class.forName(key.factoryName).asSubclass(GcpLoggingFactory.class).getConstructor().newInstance()
+					.create(key.projectId, key.credentialsPath);
+		}
+		try (InputStream credentialsStream = new FileInputStream(key.credentialsPath)) {
+			return LoggingOptions.newBuilder().setCredentials(ServiceAccountCredentials.fromStream(
+					credentialsStream)).setProjectId(key.projectId).build().getService();
+		}
+	}
+
+	private static GcpLogWriter createWriter(Logging logging, GLoggerConfig config) {
+		return config.isGcpAsyncLoggingEnabled() ? new GcpLogWriter(logging, config.getGcpQueueCapacity(),
+				config.getGcpBatchSize(), config.getGcpLingerMillis(), config.getGcpMaxBatchBytes(),
+				openSpillFile(config), config.getGcpOverflowPolicy(), config.getGcpOverflowBlockMillis(),
+				GcpLoggerAdapterImpl.severityOf(Level.toLevel(config.getGcpOverflowLevel(), Level.WARN))) : null;
+	}
+
+	/**
+	 * Opens the configured spill file. A spill file which cannot be opened is reported to the status logger, and the
+	 * writer works without it.
+	 *
+	 * @param config Configuration to read the spill file properties from.
+	 * @return Opened spill file, {@code null} if not configured or cannot be opened.
+	 */
+	private static GcpSpillFile openSpillFile(GLoggerConfig config) {
+		if (config.getGcpSpillPath() == null) {
+			return null;
+		}
+		try {
+			return new GcpSpillFile(Paths.get(config.getGcpSpillPath()), config.getGcpSpillMaxBytes(), RESOURCE);
+		} catch (IOException | RuntimeException e) {
+			StatusLogger.getLogger().warn("GLogger spill file {} cannot be opened, continuing without it",
+					config.getGcpSpillPath(), e);
+			return null;
+		}
+	}
+
+	private static StackTraceRenderer createStackTraceRenderer(GLoggerConfig config) {
+		return new StackTraceRenderer(config.getGcpStackTraceMaxDepth(), config.getGcpStackTraceCacheSize(),
+				config.getGcpStackTraceRepeatMillis());
+	}
+
+	/**
+	 * Renders the stack trace of the given throwable, or only refers to it if the same stack trace is logged recently.
+	 *
+	 * @param throwable Throwable to render.
+	 * @return Rendered stack trace.
+	 */
+	StackTraceRenderer.Rendered renderStackTrace(Throwable throwable) {
+		return stackTraceRenderer.render(throwable);
+	}
+
+	/**
+	 * Hands the log entry over to the background {@link GcpLogWriter}. If asynchronous logging is disabled, or both the
+	 * writer queue and its spill file are full with the {@link OverflowPolicy#WRITE} overflow policy, the entry is
+	 * written on the calling thread. The entry is timestamped here, so the time of an entry is the time of the log call
+	 * rather than the time Cloud Logging receives it after the batching and the retries.
+	 *
+	 * @param logName  Name of the log to write the entry to.
+	 * @param payload  Payload of the log entry.
+	 * @param severity Severity of the log entry.
+	 */
+	void write(String logName, Payload<?> payload, Severity severity) {
+		LogEntry log = LogEntry.newBuilder(payload).setSeverity(severity).setTimestamp(System.currentTimeMillis())
+				.setLogName(logName).setResource(RESOURCE).build();
+		if (writer == null || !writer.offer(log)) {
+			logging.write(Collections.singleton(log));
+			if (writer == null) {
+				logging.flush();
+			}
+		}
+	}
+
+	/**
+	 * Registry key of the clients.
+	 */
+	private static final class Key {
+
+		private final String projectId;
+		private final String credentialsPath;
+		private final String factoryName;
+
+		private Key(String projectId, String credentialsPath, String factoryName) {
+			this.projectId = projectId;
+			this.credentialsPath = credentialsPath;
+			this.factoryName = factoryName;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return Objects.equals(projectId, key.projectId) && Objects.equals(credentialsPath, key.credentialsPath)
+					&& Objects.equals(factoryName, key.factoryName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, credentialsPath, factoryName);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.galaksiya.logger;
+
+import com.google.cloud.logging.Logging;
+
+/**
+ * Factory of the Cloud Logging {@link Logging} service the GCP loggers write to. The factory to use is selected with
+ * the <i>com.galaksiya.logging.gcpLogging.loggingFactory</i> configuration, by the fully qualified name of an
+ * implementation of this interface with a public no-arg constructor. If not configured, the service is created for
+ * the configured project with the configured service account credentials.
+ * <br>
+ * A factory can return an in-process implementation of {@link Logging}, e.g. to load test the GCP loggers without a
+ * project or network.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public interface GcpLoggingFactory {
+
+	/**
+	 * Creates the service to write the log entries of the given project with. Called once per project and credentials.
+	 *
+	 * @param projectId       Configured project id, may be {@code null}.
+	 * @param credentialsPath Configured path of the credentials file, may be {@code null}.
+	 * @return Created service.
+	 * @throws Exception If the service cannot be created. The default service is used in that case.
+	 */
+	Logging create(String projectId, String credentialsPath) throws Exception;
+}
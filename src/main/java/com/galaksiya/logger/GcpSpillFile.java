@@ -0,0 +1,344 @@
+package com.galaksiya.logger;
+
+import com.google.cloud.MonitoredResource;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Struct;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped ring file keeping the GCP log entries that cannot be handed over to Cloud Logging, either because the
+ * in-memory queue of the {@link GcpLogWriter} is full or because the writes fail. The entries are replayed in order by
+ * the writer once Cloud Logging accepts writes again.
+ * <br>
+ * The file consists of a header page holding the read and write positions, and a data area used as a ring. Each entry
+ * is a record of its length, the CRC32 of its content and the content itself, padded to 8 bytes. A record that does
+ * not fit into the end of the data area is written at its start, after a wrap marker. Entries are serialized straight
+ * into the mapped memory, so appending copies nothing through the heap.
+ * <br>
+ * The mapped memory belongs to the operating system, so the appended entries survive a crash of the process. The write
+ * position is advanced only after the record is written, and the records are verified against their CRCs when the file
+ * is opened again; the entries after a torn or corrupt record are discarded.
+ * <br>
+ * Methods are synchronized, appends from the logging threads are expected only while the writer falls behind. Whether
+ * the file has entries is kept in a volatile flag as well, so {@link #isEmpty()} does not take the lock of the file on
+ * every log call.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class GcpSpillFile implements Closeable {
+
+	private static final int MAGIC = 0x474C5350; // GLSP
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 4096;
+	private static final int HEAD_OFFSET = 16;
+	private static final int TAIL_OFFSET = 24;
+
+	/**
+	 * Length and CRC of a record.
+	 */
+	private static final int RECORD_HEADER_BYTES = 8;
+	private static final int WRAP_MARKER = -1;
+
+	private static final byte JSON_PAYLOAD = 0;
+	private static final byte STRING_PAYLOAD = 1;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final MappedByteBuffer data;
+	private final long capacity;
+	private final MonitoredResource resource;
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Logical positions of the first unread byte and of the next byte to write. They only grow, their remainder by the
+	 * {@link #capacity} is the position in the data area.
+	 */
+	private long head;
+	private long tail;
+
+	/**
+	 * Indicates whether there are entries to replay, namely {@link #head} and {@link #tail} differ. Updated with them.
+	 */
+	private volatile boolean spilling;
+
+	/**
+	 * Opens the spill file at the given path, creating it if necessary, and recovers the entries left in it.
+	 *
+	 * @param path     Path of the file.
+	 * @param maxBytes Maximum size of the file, including its header page.
+	 * @param resource Monitored resource to set on the replayed entries.
+	 * @throws IOException If the file cannot be opened or mapped.
+	 */
+	GcpSpillFile(Path path, long maxBytes, MonitoredResource resource) throws IOException {
+		// Data area is a multiple of 8 so the padded records always leave room for a wrap marker.
+		long capacity = Math.max(maxBytes - HEADER_BYTES, 64 * 1024) & ~7L;
+		if (capacity > Integer.MAX_VALUE - 7) {
+			capacity = (Integer.MAX_VALUE - 7) & ~7L;
+		}
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+		this.resource = resource;
+
+		if (this.header.getInt(0) == MAGIC && this.header.getInt(4) == VERSION) {
+			// Keep the capacity of the existing file, its records are laid out with it.
+			capacity = this.header.getLong(8);
+		}
+		this.capacity = capacity;
+		this.data = this.channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, capacity);
+		if (this.header.getInt(0) == MAGIC && this.header.getInt(4) == VERSION) {
+			this.head = this.header.getLong(HEAD_OFFSET);
+			this.tail = this.header.getLong(TAIL_OFFSET);
+			recover();
+		} else {
+			this.header.putInt(0, MAGIC);
+			this.header.putInt(4, VERSION);
+			this.header.putLong(8, capacity);
+			writePositions();
+		}
+	}
+
+	/**
+	 * Verifies the records between the read and write positions, moving the write position back to the first record
+	 * which is not valid.
+	 */
+	private void recover() {
+		if (this.head < 0 || this.tail < this.head || this.tail - this.head > this.capacity) {
+			this.head = 0;
+			this.tail = 0;
+			writePositions();
+			return;
+		}
+		long position = this.head;
+		while (position < this.tail) {
+			long next = nextRecord(position);
+			if (next < 0) {
+				break;
+			}
+			position = next;
+		}
+		this.tail = position;
+		writePositions();
+	}
+
+	/**
+	 * Returns the position after the record at the given position, skipping a wrap marker, if the record is valid.
+	 *
+	 * @param position Logical position of a record.
+	 * @return Logical position of the next record, -1 if the record is not valid.
+	 */
+	private long nextRecord(long position) {
+		long start = skipWrap(position);
+		if (start < 0 || start + RECORD_HEADER_BYTES > this.tail) {
+			return -1;
+		}
+		int index = index(start);
+		int length = this.data.getInt(index);
+		long end = start + padded(length);
+		if (length <= 0 || end > this.tail || index + padded(length) > this.capacity) {
+			return -1;
+		}
+		return crcOf(index + RECORD_HEADER_BYTES, length) == this.data.getInt(index + 4) ? end : -1;
+	}
+
+	/**
+	 * @param position Logical position of a record or a wrap marker.
+	 * @return Logical position of the record, after the wrap marker if there is one at the given position.
+	 */
+	private long skipWrap(long position) {
+		if (this.data.getInt(index(position)) == WRAP_MARKER) {
+			return position + (this.capacity - index(position));
+		}
+		return position;
+	}
+
+	/**
+	 * Appends the given entry.
+	 *
+	 * @param entry Log entry to append.
+	 * @return {@code false} if there is no room for the entry, {@code true} otherwise.
+	 */
+	synchronized boolean append(LogEntry entry) {
+		Payload<?> payload = entry.getPayload();
+		Struct struct = payload instanceof Payload.JsonPayload ? ((Payload.JsonPayload) payload).getData() : null;
+		String text = struct == null ? String.valueOf(payload.getData()) : null;
+		String logName = entry.getLogName() == null ? "" : entry.getLogName();
+		Severity severity = entry.getSeverity() == null ? Severity.DEFAULT : entry.getSeverity();
+		long timestamp = entry.getTimestamp() != null ? entry.getTimestamp() : System.currentTimeMillis();
+
+		int length = CodedOutputStream.computeStringSizeNoTag(logName)
+				+ CodedOutputStream.computeStringSizeNoTag(severity.name())
+				+ CodedOutputStream.computeInt64SizeNoTag(timestamp) + 1
+				+ (struct != null ? CodedOutputStream.computeMessageSizeNoTag(struct) :
+				CodedOutputStream.computeStringSizeNoTag(text));
+		int recordBytes = padded(length);
+		long gap = this.capacity - index(this.tail) < recordBytes ? this.capacity - index(this.tail) : 0;
+		if (recordBytes > this.capacity || this.tail - this.head + gap + recordBytes > this.capacity) {
+			return false;
+		}
+		if (gap > 0) {
+			this.data.putInt(index(this.tail), WRAP_MARKER);
+		}
+		long start = this.tail + gap;
+		int index = index(start);
+
+		ByteBuffer target = this.data.duplicate();
+		target.position(index + RECORD_HEADER_BYTES);
+		target.limit(index + RECORD_HEADER_BYTES + length);
+		CodedOutputStream output = CodedOutputStream.newInstance(target);
+		try {
+			output.writeStringNoTag(logName);
+			output.writeStringNoTag(severity.name());
+			output.writeInt64NoTag(timestamp);
+			if (struct != null) {
+				output.writeRawByte(JSON_PAYLOAD);
+				output.writeMessageNoTag(struct);
+			} else {
+				output.writeRawByte(STRING_PAYLOAD);
+				output.writeStringNoTag(text);
+			}
+			output.flush();
+		} catch (IOException e) {
+			return false;
+		}
+		this.data.putInt(index, length);
+		this.data.putInt(index + 4, crcOf(index + RECORD_HEADER_BYTES, length));
+		this.tail = start + recordBytes;
+		this.header.putLong(TAIL_OFFSET, this.tail);
+		this.spilling = true;
+		return true;
+	}
+
+	/**
+	 * Reads the oldest entries without removing them, see {@link #commit(long)}.
+	 *
+	 * @param maxEntries Maximum number of entries to read.
+	 * @param maxBytes   Maximum size of the read records, at least one entry is read.
+	 * @param entries    List to add the read entries to.
+	 * @return Logical position after the read entries, to pass to {@link #commit(long)} once they are written.
+	 */
+	synchronized long peek(int maxEntries, long maxBytes, List<LogEntry> entries) {
+		long position = this.head;
+		while (position < this.tail && entries.size() < maxEntries
+				&& (entries.isEmpty() || position - this.head < maxBytes)) {
+			long start = skipWrap(position);
+			int index = index(start);
+			int length = this.data.getInt(index);
+			ByteBuffer source = this.data.duplicate();
+			source.position(index + RECORD_HEADER_BYTES);
+			source.limit(index + RECORD_HEADER_BYTES + length);
+			try {
+				entries.add(read(CodedInputStream.newInstance(source)));
+			} catch (IOException | IllegalArgumentException e) {
+				// Verified on recovery and written by this process, so only a bug or external change ends up here.
+				this.tail = position;
+				writePositions();
+				break;
+			}
+			position = start + padded(length);
+		}
+		return position;
+	}
+
+	private LogEntry read(CodedInputStream input) throws IOException {
+		String logName = input.readString();
+		Severity severity = Severity.valueOf(input.readString());
+		long timestamp = input.readInt64();
+		Payload<?> payload;
+		if (input.readRawByte() == JSON_PAYLOAD) {
+			payload = Payload.JsonPayload.of(input.readMessage(Struct.parser(), ExtensionRegistryLite
+					.getEmptyRegistry()));
+		} else {
+			payload = Payload.StringPayload.of(input.readString());
+		}
+		LogEntry.Builder builder = LogEntry.newBuilder(payload).setSeverity(severity).setTimestamp(timestamp)
+				.setResource(this.resource);
+		if (!logName.isEmpty()) {
+			builder.setLogName(logName);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Removes the entries read with {@link #peek(int, long, List)}.
+	 *
+	 * @param position Position returned by {@link #peek(int, long, List)}.
+	 */
+	synchronized void commit(long position) {
+		if (position > this.head && position <= this.tail) {
+			this.head = position;
+			if (this.head == this.tail) {
+				// Start from the beginning of the data area again, keeping the positions small.
+				this.head = 0;
+				this.tail = 0;
+			}
+			writePositions();
+		}
+	}
+
+	/**
+	 * @return {@code true} if there is no entry to replay.
+	 */
+	boolean isEmpty() {
+		return !this.spilling;
+	}
+
+	/**
+	 * @return Number of bytes used by the entries to replay.
+	 */
+	synchronized long usedBytes() {
+		return this.tail - this.head;
+	}
+
+	private void writePositions() {
+		this.header.putLong(HEAD_OFFSET, this.head);
+		this.header.putLong(TAIL_OFFSET, this.tail);
+		this.spilling = this.head != this.tail;
+	}
+
+	private int index(long position) {
+		return (int) (position % this.capacity);
+	}
+
+	private static int padded(int length) {
+		return (RECORD_HEADER_BYTES + length + 7) & ~7;
+	}
+
+	private int crcOf(int index, int length) {
+		ByteBuffer content = this.data.duplicate();
+		content.position(index);
+		content.limit(index + length);
+		this.crc.reset();
+		this.crc.update(content);
+		return (int) this.crc.getValue();
+	}
+
+	/**
+	 * Forces the mapped content to the disk and closes the file.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		this.data.force();
+		this.header.force();
+		this.channel.close();
+	}
+}
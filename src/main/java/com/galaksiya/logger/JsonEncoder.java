@@ -0,0 +1,215 @@
+package com.galaksiya.logger;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends values as JSON into a {@link StringBuilder}, used to render the log fields without building an intermediate
+ * string or collection. Values are written as follows;
+ * <ul>
+ * <li>{@code null}, booleans and finite numbers as their JSON literals,</li>
+ * <li>{@link Map}s as objects and {@link Iterable}s and arrays as arrays, nested up to {@link #MAX_DEPTH} levels,</li>
+ * <li>any other value, including NaN and infinite numbers, as the string of its {@link Object#toString()}.</li>
+ * </ul>
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class JsonEncoder {
+
+	/**
+	 * Maximum nesting level of the maps, iterables and arrays. Deeper values are written as strings, so cyclic
+	 * structures cannot overflow the stack.
+	 */
+	static final int MAX_DEPTH = 8;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private JsonEncoder() {
+	}
+
+	/**
+	 * Appends the given value as JSON.
+	 *
+	 * @param builder Builder to append to.
+	 * @param value   Value to append, may be {@code null}.
+	 */
+	static void appendValue(StringBuilder builder, Object value) {
+		appendValue(builder, value, 0);
+	}
+
+	/**
+	 * Appends the given map as a JSON object.
+	 *
+	 * @param builder Builder to append to.
+	 * @param map     Map to append.
+	 */
+	static void appendObject(StringBuilder builder, Map<?, ?> map) {
+		appendObject(builder, map, 0);
+	}
+
+	/**
+	 * Appends a long value as a JSON number.
+	 *
+	 * @param builder Builder to append to.
+	 * @param value   Value to append.
+	 */
+	static void appendLong(StringBuilder builder, long value) {
+		builder.append(value);
+	}
+
+	/**
+	 * Appends a double value as a JSON number, or as a string if it is NaN or infinite.
+	 *
+	 * @param builder Builder to append to.
+	 * @param value   Value to append.
+	 */
+	static void appendDouble(StringBuilder builder, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			builder.append('"').append(value).append('"');
+		} else {
+			builder.append(value);
+		}
+	}
+
+	/**
+	 * Appends a float value as a JSON number, or as a string if it is NaN or infinite. The value is written with its
+	 * own shortest representation, e.g. 0.1 rather than the 0.10000000149011612 of the same value as a double.
+	 *
+	 * @param builder Builder to append to.
+	 * @param value   Value to append.
+	 */
+	static void appendFloat(StringBuilder builder, float value) {
+		if (Float.isNaN(value) || Float.isInfinite(value)) {
+			builder.append('"').append(value).append('"');
+		} else {
+			builder.append(value);
+		}
+	}
+
+	/**
+	 * Appends the given characters as an escaped JSON string, surrounded by the quotes.
+	 *
+	 * @param builder Builder to append to.
+	 * @param value   Characters to append.
+	 */
+	static void appendString(StringBuilder builder, CharSequence value) {
+		builder.append('"');
+		int length = value.length();
+		int i = 0;
+		while (i < length && !isEscaped(value.charAt(i))) {
+			i++;
+		}
+		if (i == length) {
+			// Nothing to escape, mostly the case, append the value at once.
+			builder.append(value).append('"');
+			return;
+		}
+		int start = 0;
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (!isEscaped(c)) {
+				continue;
+			}
+			builder.append(value, start, i);
+			start = i + 1;
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				case '\b':
+					builder.append("\\b");
+					break;
+				case '\f':
+					builder.append("\\f");
+					break;
+				default:
+					builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+			}
+		}
+		builder.append(value, start, length).append('"');
+	}
+
+	private static boolean isEscaped(char c) {
+		return c < 0x20 || c == '"' || c == '\\';
+	}
+
+	private static void appendValue(StringBuilder builder, Object value, int depth) {
+		if (value == null) {
+			builder.append("null");
+		} else if (value instanceof String) {
+			appendString(builder, (String) value);
+		} else if (value instanceof Integer || value instanceof Long || value instanceof Short
+				|| value instanceof Byte || value instanceof AtomicInteger || value instanceof AtomicLong) {
+			appendLong(builder, ((Number) value).longValue());
+		} else if (value instanceof Double) {
+			appendDouble(builder, (Double) value);
+		} else if (value instanceof Float) {
+			appendFloat(builder, (Float) value);
+		} else if (value instanceof BigInteger || value instanceof BigDecimal) {
+			builder.append(value);
+		} else if (value instanceof Boolean) {
+			builder.append(((Boolean) value).booleanValue());
+		} else if (depth >= MAX_DEPTH) {
+			appendString(builder, String.valueOf(value));
+		} else if (value instanceof Map) {
+			appendObject(builder, (Map<?, ?>) value, depth + 1);
+		} else if (value instanceof Iterable) {
+			builder.append('[');
+			boolean first = true;
+			for (Object element : (Iterable<?>) value) {
+				if (!first) {
+					builder.append(',');
+				}
+				first = false;
+				appendValue(builder, element, depth + 1);
+			}
+			builder.append(']');
+		} else if (value.getClass().isArray()) {
+			builder.append('[');
+			int length = Array.getLength(value);
+			for (int i = 0; i < length; i++) {
+				if (i > 0) {
+					builder.append(',');
+				}
+				appendValue(builder, Array.get(value, i), depth + 1);
+			}
+			builder.append(']');
+		} else if (value instanceof CharSequence) {
+			appendString(builder, (CharSequence) value);
+		} else {
+			appendString(builder, value.toString());
+		}
+	}
+
+	private static void appendObject(StringBuilder builder, Map<?, ?> map, int depth) {
+		builder.append('{');
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (!first) {
+				builder.append(',');
+			}
+			first = false;
+			appendString(builder, String.valueOf(entry.getKey()));
+			builder.append(':');
+			appendValue(builder, entry.getValue(), depth);
+		}
+		builder.append('}');
+	}
+}
@@ -0,0 +1,122 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.AbstractStringLayout;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.util.datetime.FixedDateFormat;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.Constants;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.TimeZone;
+
+/**
+ * Log4j2 layout writing each event as a single line JSON object, used by the {@link Log4j2AsyncMode}. The fields of a
+ * map log, e.g. an {@link OperationLog}, are written as the fields of the line itself, so the operation fields can be
+ * queried directly;
+ * <pre>
+ * {"timestamp":"2026-10-16T09:30:00.123Z","level":"INFO","logger":"com.galaksiya.Foo","thread":"main",
+ *  "_operationName":"getUser","_operationStatus":"succeeded","_operationTook":12}
+ * </pre>
+ * A message log is written with the <i>_message</i> field and a throwable with the <i>_stackTrace</i> and
+ * <i>_stackTraceId</i> fields, the same as the GCP log entries.
+ * <br>
+ * Map logs are recognized by the format of their messages, see {@link JsonMessage#FORMAT}, since Log4j2 copies the
+ * messages into its own reusable events. Lines are built in the reusable string builder of the thread and encoded
+ * straight into the appender buffer, so a line is written without creating a string of it.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class JsonLineLayout extends AbstractStringLayout {
+
+	private static final FixedDateFormat DATE_FORMAT = FixedDateFormat.create(FixedDateFormat.FixedFormat.ISO8601_PERIOD,
+			TimeZone.getTimeZone("UTC"));
+
+	private static final ThreadLocal<char[]> DATE_BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+	/**
+	 * Builder of the plain messages of the thread, to escape them without creating a string.
+	 */
+	private static final ThreadLocal<StringBuilder> MESSAGE_BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+	/**
+	 * Renderer of the stack traces. Local files keep the complete stack traces, so repeated ones are not deduplicated.
+	 */
+	private final StackTraceRenderer stackTraceRenderer = new StackTraceRenderer(Integer.MAX_VALUE, 0, 0);
+
+	JsonLineLayout() {
+		super(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public String getContentType() {
+		return "application/json; charset=UTF-8";
+	}
+
+	@Override
+	public String toSerializable(LogEvent event) {
+		StringBuilder text = toText(event, getStringBuilder());
+		return text.toString();
+	}
+
+	@Override
+	public void encode(LogEvent event, ByteBufferDestination destination) {
+		if (!Constants.ENABLE_THREADLOCALS) {
+			super.encode(event, destination);
+			return;
+		}
+		StringBuilder text = toText(event, getStringBuilder());
+		getStringBuilderEncoder().encode(text, destination);
+		trimToMaxSize(text);
+	}
+
+	private StringBuilder toText(LogEvent event, StringBuilder builder) {
+		char[] date = DATE_BUFFER.get();
+		int length = DATE_FORMAT.format(event.getTimeMillis(), date, 0);
+		builder.append("{\"timestamp\":\"").append(date, 0, length).append("Z\",\"level\":\"")
+				.append(event.getLevel().name()).append("\",\"logger\":");
+		JsonEncoder.appendString(builder, event.getLoggerName());
+		builder.append(",\"thread\":");
+		JsonEncoder.appendString(builder, event.getThreadName());
+
+		Message message = event.getMessage();
+		if (message != null && JsonMessage.FORMAT.equals(message.getFormat())) {
+			// Write the object of the map in place and merge it into the line.
+			int start = builder.length();
+			formatTo(message, builder);
+			if (builder.length() - start <= 2) {
+				builder.setLength(start);
+			} else {
+				builder.setCharAt(start, ',');
+				builder.setLength(builder.length() - 1);
+			}
+		} else if (message != null) {
+			builder.append(",\"_message\":");
+			StringBuilder formatted = MESSAGE_BUFFER.get();
+			formatted.setLength(0);
+			formatTo(message, formatted);
+			JsonEncoder.appendString(builder, formatted);
+			trimToMaxSize(formatted);
+		}
+
+		Throwable thrown = event.getThrown();
+		if (thrown != null) {
+			StackTraceRenderer.Rendered rendered = this.stackTraceRenderer.render(thrown);
+			builder.append(",\"_stackTrace\":");
+			JsonEncoder.appendString(builder, rendered.text);
+			builder.append(",\"_stackTraceId\":");
+			JsonEncoder.appendString(builder, rendered.id);
+		}
+		return builder.append("}\n");
+	}
+
+	private static void formatTo(Message message, StringBuilder builder) {
+		if (message instanceof StringBuilderFormattable) {
+			((StringBuilderFormattable) message).formatTo(builder);
+		} else {
+			builder.append(message.getFormattedMessage());
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.util.Constants;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.util.Map;
+
+/**
+ * Log4j2 {@link Message} rendering a map as a JSON object. The fields are written straight into the buffer of the
+ * layout through {@link StringBuilderFormattable#formatTo(StringBuilder)}, so neither a string of the map nor any other
+ * intermediate object is created on the synchronous appenders. {@link OperationLog} fields are written from their
+ * storage without boxing, see {@link OperationFields.View#formatJsonTo(StringBuilder)}.
+ * <br>
+ * The message is a {@link ReusableMessage} since the maps it renders, like the {@link OperationLog} field views, may
+ * change once the log call returns. Log4j2 copies such messages with {@link #memento()} or renders them on the logging
+ * thread before handing them to an asynchronous logger or appender. Thanks to that, an instance is kept per thread
+ * and reused if the Log4j2 thread locals are enabled, see {@link Constants#ENABLE_THREADLOCALS}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class JsonMessage implements ReusableMessage {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Format of the JSON messages. Log4j2 keeps the format of a message when it copies the message into a reusable or
+	 * an immutable log event, so layouts can recognize the rendered JSON objects by it, see {@link JsonLineLayout}.
+	 */
+	static final String FORMAT = "application/json";
+
+	private static final ThreadLocal<JsonMessage> MESSAGES = Constants.ENABLE_THREADLOCALS ?
+			ThreadLocal.withInitial(JsonMessage::new) : null;
+
+	/**
+	 * Returns a message rendering the given map, reusing the message of the current thread if possible. The returned
+	 * message must be released once it is logged.
+	 *
+	 * @param map Map to render.
+	 * @return Message to log.
+	 */
+	static JsonMessage acquire(Map<String, Object> map) {
+		JsonMessage message = MESSAGES == null ? null : MESSAGES.get();
+		if (message == null || message.inUse) {
+			// A value is logging in its toString method, the message of the thread cannot be shared.
+			message = new JsonMessage();
+		}
+		message.map = map;
+		message.inUse = true;
+		return message;
+	}
+
+	/**
+	 * Map to render, not serialized since the mementos carry only the {@link #formatted} message.
+	 */
+	private transient Map<String, Object> map;
+	private String formatted;
+	private boolean inUse;
+
+	private JsonMessage() {
+	}
+
+	/**
+	 * Creates a message rendering the given map.
+	 *
+	 * @param map Map to render.
+	 */
+	JsonMessage(Map<String, Object> map) {
+		this.map = map;
+	}
+
+	/**
+	 * Clears the references of this message and makes it available to the next log call of the thread.
+	 */
+	void release() {
+		this.map = null;
+		this.formatted = null;
+		this.inUse = false;
+	}
+
+	@Override
+	public void formatTo(StringBuilder buffer) {
+		if (this.formatted != null) {
+			buffer.append(this.formatted);
+		} else if (this.map instanceof OperationFields.View) {
+			((OperationFields.View) this.map).formatJsonTo(buffer);
+		} else {
+			JsonEncoder.appendObject(buffer, this.map);
+		}
+	}
+
+	@Override
+	public String getFormattedMessage() {
+		if (this.formatted == null) {
+			StringBuilder builder = new StringBuilder(256);
+			formatTo(builder);
+			this.formatted = builder.toString();
+		}
+		return this.formatted;
+	}
+
+	/**
+	 * The message does not have a format string, the map itself is the message.
+	 *
+	 * @return {@link #FORMAT}
+	 */
+	@Override
+	public String getFormat() {
+		return FORMAT;
+	}
+
+	@Override
+	public Object[] getParameters() {
+		return Constants.EMPTY_OBJECT_ARRAY;
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return null;
+	}
+
+	@Override
+	public Object[] swapParameters(Object[] emptyReplacement) {
+		return emptyReplacement;
+	}
+
+	@Override
+	public short getParameterCount() {
+		return 0;
+	}
+
+	@Override
+	public Message memento() {
+		JsonMessage memento = new JsonMessage();
+		memento.formatted = getFormattedMessage();
+		return memento;
+	}
+
+	@Override
+	public String toString() {
+		return getFormattedMessage();
+	}
+}
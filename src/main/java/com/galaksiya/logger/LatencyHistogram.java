@@ -0,0 +1,167 @@
+package com.galaksiya.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets, in the manner of HdrHistogram. Values below 32 have their
+ * own buckets; larger values are grouped into powers of two, each split into 16 linear sub buckets, so the recorded
+ * values are accurate to 1/16 (6.25%) of their magnitude. Values up to 2^46 are tracked, larger ones are counted in
+ * the last bucket.
+ * <br>
+ * Recording increments a single counter of a fixed {@link AtomicLongArray}, nothing is allocated. {@link
+ * #snapshotAndReset()} takes the counts of the current interval and resets them, the values recorded concurrently are
+ * counted in either this or the next interval. {@link #snapshot()} takes the counts recorded so far instead.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Magnitude of the largest tracked value, 2^46 nanoseconds is more than 19 hours.
+	 */
+	private static final int MAX_MAGNITUDE = 46;
+
+	private static final int BUCKET_COUNT = indexOf((1L << MAX_MAGNITUDE) - 1) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value Value to record, negative values are recorded as 0.
+	 */
+	void record(long value) {
+		long v = Math.max(value, 0);
+		this.counts.incrementAndGet(Math.min(indexOf(v), BUCKET_COUNT - 1));
+		long current = this.max.get();
+		while (v > current && !this.max.compareAndSet(current, v)) {
+			current = this.max.get();
+		}
+	}
+
+	/**
+	 * Takes the counts recorded since the previous call and resets them.
+	 *
+	 * @return Snapshot of the recorded values.
+	 */
+	Snapshot snapshotAndReset() {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			if (this.counts.get(i) != 0) {
+				snapshot[i] = this.counts.getAndSet(i, 0);
+				total += snapshot[i];
+			}
+		}
+		return new Snapshot(snapshot, total, this.max.getAndSet(0));
+	}
+
+	/**
+	 * Takes the counts recorded so far without resetting them.
+	 *
+	 * @return Snapshot of the recorded values.
+	 */
+	Snapshot snapshot() {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = this.counts.get(i);
+			total += snapshot[i];
+		}
+		return new Snapshot(snapshot, total, this.max.get());
+	}
+
+	private static int indexOf(long value) {
+		if (value < 2 * SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+		return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * @param index Index of a bucket.
+	 * @return Largest value counted in the bucket of the given index.
+	 */
+	private static long highestValueOf(int index) {
+		if (index < 2 * SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - 2 * SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+		long subBucket = (index - 2 * SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Values recorded in an interval.
+	 */
+	static final class Snapshot {
+
+		private final long[] counts;
+		private final long count;
+		private final long max;
+
+		private Snapshot(long[] counts, long count, long max) {
+			this.counts = counts;
+			this.count = count;
+			this.max = max;
+		}
+
+		/**
+		 * Combines the values of this snapshot with the given one, e.g. to merge the histograms of several threads.
+		 *
+		 * @param other Snapshot to combine with.
+		 * @return Snapshot of the values of both snapshots.
+		 */
+		Snapshot plus(Snapshot other) {
+			long[] counts = new long[BUCKET_COUNT];
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				counts[i] = this.counts[i] + other.counts[i];
+			}
+			return new Snapshot(counts, this.count + other.count, Math.max(this.max, other.max));
+		}
+
+		/**
+		 * @return Number of the recorded values.
+		 */
+		long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * @return Largest recorded value, exact.
+		 */
+		long getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Returns the value at the given percentile, the largest value of its bucket but not larger than {@link
+		 * #getMax()}.
+		 *
+		 * @param percentile Percentile between 0 and 100.
+		 * @return Value at the given percentile, 0 if no value is recorded.
+		 */
+		long getValueAtPercentile(double percentile) {
+			if (this.count == 0) {
+				return 0;
+			}
+			long rank = Math.max((long) Math.ceil(percentile / 100 * this.count), 1);
+			long seen = 0;
+			for (int i = 0; i < this.counts.length; i++) {
+				seen += this.counts[i];
+				if (seen >= rank) {
+					return Math.min(highestValueOf(i), this.max);
+				}
+			}
+			return this.max;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
+import org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender;
+import org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.DefaultRolloverStrategy;
+import org.apache.logging.log4j.core.appender.rolling.SizeBasedTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.TimeBasedTriggeringPolicy;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfigDelegate;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfigDisruptor;
+import org.apache.logging.log4j.core.async.AsyncLoggerContext;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.NullConfiguration;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Asynchronous Log4j2 mode, enabled with <i>com.galaksiya.logging.log4j2Async.enabled</i>. The configured loggers,
+ * <i>com.galaksiya</i> by default, are added to the Log4j2 configuration as Disruptor backed asynchronous loggers
+ * writing to a rolling JSON file, see {@link JsonLineLayout}, so a log call only copies the event into the ring buffer
+ * and the formatting and the file I/O are done on the Log4j2 background thread. The rest of the Log4j2 configuration,
+ * e.g. the root logger of the application, is kept as it is.
+ * <br>
+ * Log4j2 reads the ring buffer size, the wait strategy and the queue full policy only from its global properties, so
+ * the configured ones are set as system properties only while the ring buffer of the configuration is created, and
+ * cleared right after. They are not set if they are given explicitly to Log4j2, or if the configuration has
+ * asynchronous loggers or appenders of its own, which share the same properties. The asynchronous loggers do not pass
+ * the events to the parent loggers and do not include the caller location, since both would bring the logging thread
+ * back into the appenders.
+ * <br>
+ * The loggers are added once per Log4j2 configuration, and again whenever the configuration is replaced, e.g. when
+ * the Log4j2 configuration file changes. A logger of the same name already in the configuration is left as it is, and
+ * reported to the status logger unless it is already asynchronous.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class Log4j2AsyncMode {
+
+	/**
+	 * Status logger to report the failures. {@link GLogger} cannot be used for this purpose since it logs through the
+	 * configured loggers.
+	 */
+	private static final Logger STATUS_LOGGER = StatusLogger.getLogger();
+
+	private static final String APPENDER_NAME = "GLoggerAsyncJson";
+
+	/**
+	 * Log4j2 configurations the asynchronous loggers are added to.
+	 */
+	private static final Set<Configuration> CONFIGURED = Collections.newSetFromMap(new WeakHashMap<>());
+
+	private Log4j2AsyncMode() {
+	}
+
+	/**
+	 * Adds the asynchronous loggers to the current configuration of the given context if the mode is enabled, and
+	 * watches the context to add them to its later configurations. Called once per context.
+	 *
+	 * @param context Log4j2 context of the GLogger loggers.
+	 */
+	static void install(LoggerContext context) {
+		if (!GLoggerConfig.getInstance().isLog4j2AsyncEnabled()) {
+			return;
+		}
+		context.addPropertyChangeListener(Log4j2AsyncMode::configurationChanged);
+		configure(context);
+	}
+
+	private static void configurationChanged(PropertyChangeEvent event) {
+		if (LoggerContext.PROPERTY_CONFIG.equals(event.getPropertyName())
+				&& GLoggerConfig.getInstance().isLog4j2AsyncEnabled()) {
+			configure((LoggerContext) event.getSource());
+		}
+	}
+
+	/**
+	 * Adds the asynchronous loggers to the current configuration of the given context unless they are already added.
+	 *
+	 * @param context Log4j2 context to configure.
+	 */
+	private static synchronized void configure(LoggerContext context) {
+		Configuration configuration = context.getConfiguration();
+		// The context switches to a null configuration while stopping.
+		if (context.isStopping() || context.isStopped() || configuration instanceof NullConfiguration
+				|| !CONFIGURED.add(configuration)) {
+			return;
+		}
+		GLoggerConfig config = GLoggerConfig.getInstance();
+		List<String> names = new ArrayList<>();
+		for (String name : config.getLog4j2AsyncLoggers()) {
+			LoggerConfig existing = configuration.getLoggers().get(name);
+			if (existing == null) {
+				names.add(name);
+			} else if (!(existing instanceof AsyncLoggerConfig)) {
+				STATUS_LOGGER.warn("GLogger left the Log4j2 logger {} as configured, it is not made asynchronous", name);
+			}
+		}
+		if (names.isEmpty()) {
+			return;
+		}
+		boolean tuned = !hasAsyncComponents(context, configuration);
+		if (!tuned) {
+			STATUS_LOGGER.warn("GLogger does not set the ring buffer and queue full properties of the asynchronous "
+					+ "Log4j2 loggers, the configuration has asynchronous components of its own");
+		}
+		try {
+			// Fails first if the Disruptor is not on the class path, before anything is added to the configuration.
+			AsyncLoggerConfigDelegate delegate = configuration.getAsyncLoggerConfigDelegate();
+			RollingRandomAccessFileAppender appender = RollingRandomAccessFileAppender.newBuilder()
+					.withFileName(config.getLog4j2AsyncFileName())
+					.withFilePattern(config.getLog4j2AsyncFilePattern())
+					.withPolicy(CompositeTriggeringPolicy.createPolicy(TimeBasedTriggeringPolicy.newBuilder().build(),
+							SizeBasedTriggeringPolicy.createPolicy(config.getLog4j2AsyncMaxFileSize())))
+					.withStrategy(DefaultRolloverStrategy.newBuilder()
+							.withMax(String.valueOf(config.getLog4j2AsyncMaxFiles()))
+							.withConfig(configuration)
+							.build())
+					.withImmediateFlush(false)
+					.setLayout(new JsonLineLayout())
+					.setName(APPENDER_NAME)
+					.setConfiguration(configuration)
+					.build();
+			if (appender == null) {
+				STATUS_LOGGER.error("GLogger could not create the asynchronous Log4j2 appender for {}",
+						config.getLog4j2AsyncFileName());
+				return;
+			}
+			appender.start();
+			configuration.addAppender(appender);
+
+			Level level = Level.toLevel(config.getLog4j2AsyncLevel(), Level.INFO);
+			for (String name : names) {
+				LoggerConfig logger = AsyncLoggerConfig.createLogger(false, level, name, "false", new AppenderRef[0],
+						null, configuration, null);
+				logger.addAppender(appender, null, null);
+				logger.start();
+				configuration.addLogger(name, logger);
+			}
+
+			if (delegate instanceof AsyncLoggerConfigDisruptor) {
+				List<String> properties = new ArrayList<>();
+				if (tuned) {
+					setDefault("AsyncLoggerConfig.RingBufferSize", String.valueOf(config.getLog4j2AsyncRingBufferSize()),
+							properties);
+					setDefault("AsyncLoggerConfig.WaitStrategy", config.getLog4j2AsyncWaitStrategy(), properties);
+					setDefault("log4j2.AsyncQueueFullPolicy", config.getLog4j2AsyncQueueFullPolicy(), properties);
+					setDefault("log4j2.DiscardThreshold", config.getLog4j2AsyncDiscardThreshold(), properties);
+				}
+				try {
+					// Does nothing if the configuration already has asynchronous loggers of its own.
+					((AsyncLoggerConfigDisruptor) delegate).start();
+				} finally {
+					for (String property : properties) {
+						System.clearProperty(property);
+					}
+				}
+			}
+		} catch (RuntimeException | LinkageError e) {
+			// LinkageError if the Disruptor is not on the class path.
+			STATUS_LOGGER.error("GLogger could not configure the asynchronous Log4j2 loggers", e);
+			return;
+		}
+		context.updateLoggers();
+		STATUS_LOGGER.debug("GLogger configured the asynchronous Log4j2 loggers {}", names);
+	}
+
+	/**
+	 * Checks whether the given configuration has asynchronous loggers or appenders, or the given context makes all
+	 * loggers asynchronous.
+	 *
+	 * @param context       Log4j2 context of the configuration.
+	 * @param configuration Log4j2 configuration to check.
+	 * @return {@code true} if there is any asynchronous component.
+	 */
+	private static boolean hasAsyncComponents(LoggerContext context, Configuration configuration) {
+		if (context instanceof AsyncLoggerContext || configuration.getRootLogger() instanceof AsyncLoggerConfig) {
+			return true;
+		}
+		for (LoggerConfig logger : configuration.getLoggers().values()) {
+			if (logger instanceof AsyncLoggerConfig) {
+				return true;
+			}
+		}
+		for (Appender appender : configuration.getAppenders().values()) {
+			if (appender instanceof AsyncAppender) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Sets the given Log4j2 system property unless it is given in any form Log4j2 reads it from.
+	 *
+	 * @param name       Name of the property as Log4j2 reads it.
+	 * @param value      Value to set.
+	 * @param properties Names of the set properties, to clear them once read. The given one is added if it is set.
+	 */
+	private static void setDefault(String name, String value, List<String> properties) {
+		if (PropertiesUtil.getProperties().getStringProperty(name) == null) {
+			System.setProperty(name, value);
+			properties.add(name);
+		}
+	}
+}
@@ -3,13 +3,30 @@ package com.galaksiya.logger;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.message.ObjectMessage;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.spi.ExtendedLogger;
 
+import java.beans.PropertyChangeListener;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Log4j2 implementation of the {@link LoggerAdapter}. This class is the default logging method to choose when nothing
  * is specified with the configuration file.
+ * <br>
+ * Maps, including the {@link OperationLog} fields, are logged as JSON objects, see {@link JsonMessage}. Messages are
+ * passed to Log4j2 as reusable messages of the logging thread, so an enabled log call does not allocate anything in
+ * the garbage-free mode of Log4j2, see {@link TemplateMessage}.
+ * <br>
+ * The effective level of the Log4j2 logger is cached as an int and resolved again only when a Log4j2 configuration or
+ * level changes, so a level check is a single comparison. If the Log4j2 configuration has a filter, or Log4j2 Core is
+ * not the logging implementation, the levels are checked by the Log4j2 logger instead.
+ * <br>
+ * The asynchronous Log4j2 mode is installed into the Log4j2 context of the first adapter if it is enabled, see {@link
+ * Log4j2AsyncMode}.
  *
  * @author Berkay Akdal
  * @version 1.0.0 02.04.2019
@@ -17,10 +34,39 @@ import java.util.Map;
  */
 class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 
+	/**
+	 * Fully qualified class name of the logging API, so Log4j2 finds the caller of {@link GLogger} as the location of
+	 * the log events.
+	 */
+	private static final String FQCN = GLogger.class.getName();
+
+	/**
+	 * Cached level value meaning that the levels must be checked by the Log4j2 logger.
+	 */
+	private static final int CHECK_LOGGER = -1;
+
+	/**
+	 * Version of the Log4j2 configurations, incremented when a configuration of a watched logger context is replaced
+	 * or its levels are updated.
+	 */
+	private static final AtomicInteger VERSION = new AtomicInteger();
+	private static final PropertyChangeListener LISTENER = event -> VERSION.incrementAndGet();
+
+	/**
+	 * Logger contexts {@link #LISTENER} is added to.
+	 */
+	private static final Set<LoggerContext> WATCHED_CONTEXTS = Collections.newSetFromMap(
+			Collections.synchronizedMap(new WeakHashMap<>()));
+
 	/**
 	 * Log4j2 {@link Logger} instance to wrap and use for printing system logs.
 	 */
-	private Logger logger;
+	private ExtendedLogger logger;
+
+	/**
+	 * Effective level of the Log4j2 logger, {@code null} if the logger is not a Log4j2 Core logger.
+	 */
+	private volatile CachedLevel cachedLevel;
 
 	/**
 	 * Constructs a new {@link GLogger} instance  with wrapping the given log4j2 {@link Logger} instance. Each class
@@ -29,7 +75,15 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 * @param type Class to create and wrap a Log4j2 {@link Logger} instance for.
 	 */
 	Log4j2LoggerAdapterImpl(final Class<?> type) {
-		this.logger = LogManager.getLogger(type);
+		this.logger = (ExtendedLogger) LogManager.getLogger(type);
+		if (this.logger instanceof org.apache.logging.log4j.core.Logger) {
+			LoggerContext context = ((org.apache.logging.log4j.core.Logger) this.logger).getContext();
+			if (WATCHED_CONTEXTS.add(context)) {
+				context.addPropertyChangeListener(LISTENER);
+				Log4j2AsyncMode.install(context);
+			}
+			this.cachedLevel = resolveLevel();
+		}
 	}
 
 	/**
@@ -42,16 +96,12 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void debug(String message, Object... params) {
-		debug(message, null, params);
+		log(Level.DEBUG, message, null, params);
 	}
 
 	@Override
 	public void debug(Map<String, Object> map) {
-		Level level = this.logger
-				.getLevel();
-		if (this.logger.isDebugEnabled()) {
-			this.logger.debug(new ObjectMessage(map));
-		}
+		logMap(Level.DEBUG, map, null);
 	}
 
 	/**
@@ -64,13 +114,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void debug(String message, Throwable throwable, Object... params) {
-		if (this.logger.isDebugEnabled()) {
-			if (params == null || params.length == 0) {
-				this.logger.debug(message, throwable);
-			} else {
-				this.logger.debug(String.format(message, params), throwable);
-			}
-		}
+		log(Level.DEBUG, message, throwable, params);
 	}
 
 	/**
@@ -82,7 +126,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void error(String message, Object... params) {
-		error(message, null, params);
+		log(Level.ERROR, message, null, params);
 	}
 
 	/**
@@ -95,27 +139,17 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void error(String message, Throwable throwable, Object... params) {
-		if (this.logger.isErrorEnabled()) {
-			if (params == null || params.length == 0) {
-				this.logger.error(message, throwable);
-			} else {
-				this.logger.error(String.format(message, params), throwable);
-			}
-		}
+		log(Level.ERROR, message, throwable, params);
 	}
 
 	@Override
 	public void error(Map<String, Object> map) {
-		if (this.logger.isErrorEnabled()) {
-			this.logger.error(new ObjectMessage(map));
-		}
+		logMap(Level.ERROR, map, null);
 	}
 
 	@Override
 	public void error(Map<String, Object> map, Throwable t) {
-		if (this.logger.isErrorEnabled()) {
-			this.logger.error(new ObjectMessage(map), t);
-		}
+		logMap(Level.ERROR, map, t);
 	}
 
 	/**
@@ -127,7 +161,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void fatal(String message, Object... params) {
-		fatal(message, null, params);
+		log(Level.FATAL, message, null, params);
 	}
 
 	/**
@@ -140,16 +174,12 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void fatal(String message, Throwable throwable, Object... params) {
-		if (this.logger.isFatalEnabled()) {
-			this.logger.fatal(String.format(message, params), throwable);
-		}
+		log(Level.FATAL, message, throwable, params);
 	}
 
 	@Override
 	public void fatal(Map<String, Object> map) {
-		if (this.logger.isFatalEnabled()) {
-			this.logger.fatal(new ObjectMessage(map));
-		}
+		logMap(Level.FATAL, map, null);
 	}
 
 	/**
@@ -162,7 +192,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void info(String message, Object... params) {
-		info(message, null, params);
+		log(Level.INFO, message, null, params);
 	}
 
 	/**
@@ -175,20 +205,12 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void info(String message, Throwable throwable, Object... params) {
-		if (this.logger.isInfoEnabled()) {
-			if (params == null || params.length == 0) {
-				this.logger.info(message, throwable);
-			} else {
-				this.logger.info(String.format(message, params), throwable);
-			}
-		}
+		log(Level.INFO, message, throwable, params);
 	}
 
 	@Override
 	public void info(Map<String, Object> map) {
-		if (this.logger.isInfoEnabled()) {
-			this.logger.info(new ObjectMessage(map));
-		}
+		logMap(Level.INFO, map, null);
 	}
 
 	/**
@@ -201,7 +223,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void trace(String message, Object... params) {
-		trace(message, null, params);
+		log(Level.TRACE, message, null, params);
 	}
 
 	/**
@@ -214,20 +236,12 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void trace(String message, Throwable throwable, Object... params) {
-		if (this.logger.isTraceEnabled()) {
-			if (params == null || params.length == 0) {
-				this.logger.trace(message, throwable);
-			} else {
-				this.logger.trace(String.format(message, params), throwable);
-			}
-		}
+		log(Level.TRACE, message, throwable, params);
 	}
 
 	@Override
 	public void trace(Map<String, Object> map) {
-		if (this.logger.isTraceEnabled()) {
-			this.logger.trace(new ObjectMessage(map));
-		}
+		logMap(Level.TRACE, map, null);
 	}
 
 	/**
@@ -239,7 +253,7 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void warn(String message, Object... params) {
-		warn(message, null, params);
+		log(Level.WARN, message, null, params);
 	}
 
 	/**
@@ -252,30 +266,161 @@ class Log4j2LoggerAdapterImpl implements LoggerAdapter {
 	 */
 	@Override
 	public void warn(String message, Throwable throwable, Object... params) {
-		if (params == null || params.length == 0) {
-			this.logger.warn(message, throwable);
-		} else {
-			this.logger.warn(String.format(message, params), throwable);
-		}
+		log(Level.WARN, message, throwable, params);
 	}
 
 	@Override
 	public void warn(Map<String, Object> map) {
-		if (this.logger.isWarnEnabled()) {
-			this.logger.warn(new ObjectMessage(map));
-		}
+		logMap(Level.WARN, map, null);
 	}
 
 	@Override
 	public void warn(Map<String, Object> map, Throwable t) {
-		if (this.logger.isWarnEnabled()) {
-			this.logger.warn(new ObjectMessage(map), t);
+		logMap(Level.WARN, map, t);
+	}
+
+	/**
+	 * Logs the given map as a JSON object on given level, if and only if the level is enabled. The message of the
+	 * current thread is reused, see {@link JsonMessage}.
+	 *
+	 * @param level Level to log on.
+	 * @param map   Map to log.
+	 * @param t     Occurred exception to append to the log, may be {@code null}.
+	 */
+	private void logMap(Level level, Map<String, Object> map, Throwable t) {
+		if (isEnabled(level)) {
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.LOG4J2, level);
+			JsonMessage message = JsonMessage.acquire(map);
+			try {
+				this.logger.logIfEnabled(FQCN, level, null, message, t);
+			} finally {
+				message.release();
+			}
+		}
+	}
+
+	/**
+	 * Logs the given message, and releases it so the next log call of the thread can reuse it.
+	 *
+	 * @param level     Level to log on.
+	 * @param message   Message to log.
+	 * @param throwable Occurred exception to append to the log, may be {@code null}.
+	 */
+	private void logTemplate(Level level, TemplateMessage message, Throwable throwable) {
+		try {
+			this.logger.logIfEnabled(FQCN, level, null, message, throwable);
+		} finally {
+			message.release();
 		}
 	}
 
+	@Override
+	public void log(Level level, Map<String, Object> map, Throwable throwable) {
+		logMap(level, map, throwable);
+	}
+
 	@Override
 	public Level getLevel() {
 		return this.logger.getLevel();
 	}
 
+	@Override
+	public boolean isEnabled(Level level) {
+		int intLevel = cachedIntLevel();
+		if (intLevel == CHECK_LOGGER ? this.logger.isEnabled(level) : level.intLevel() <= intLevel) {
+			return true;
+		}
+		GLoggerMetrics.filtered(GLoggerMetrics.Adapter.LOG4J2, level);
+		return false;
+	}
+
+	/**
+	 * Returns the cached effective level, resolving it again if a Log4j2 configuration or level has changed.
+	 *
+	 * @return {@link Level#intLevel()} of the effective level, or {@link #CHECK_LOGGER}.
+	 */
+	private int cachedIntLevel() {
+		CachedLevel current = this.cachedLevel;
+		if (current == null) {
+			return CHECK_LOGGER;
+		}
+		if (current.version != VERSION.get()) {
+			current = resolveLevel();
+			this.cachedLevel = current;
+		}
+		return current.intLevel;
+	}
+
+	private CachedLevel resolveLevel() {
+		// Version is read first, so a change made during the resolution invalidates the result.
+		int version = VERSION.get();
+		org.apache.logging.log4j.core.Logger coreLogger = (org.apache.logging.log4j.core.Logger) this.logger;
+		Level level = coreLogger.getLevel();
+		boolean filtered = coreLogger.getContext().getConfiguration().hasFilter();
+		return new CachedLevel(version, filtered || level == null ? CHECK_LOGGER : level.intLevel());
+	}
+
+	/**
+	 * Logs given message after formatting it with given array of <code>params</code> using its cached {@link
+	 * MessageTemplate}, if and only if the given level is enabled. The message is rendered straight into the log event
+	 * by the {@link TemplateMessage} of the current thread, and not formatted at all when there are no params.
+	 *
+	 * @param level     Level to log on.
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log, may be {@code null}.
+	 * @param params    Additional parameters to format the given <code>message</code> with, may be {@code null}.
+	 */
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object[] params) {
+		if (isEnabled(level)) {
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.LOG4J2, level);
+			if (params == null || params.length == 0) {
+				this.logger.logIfEnabled(FQCN, level, null, message, throwable);
+			} else {
+				logTemplate(level, TemplateMessage.acquire(message, params, params.length), throwable);
+			}
+		}
+	}
+
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object param) {
+		if (isEnabled(level)) {
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.LOG4J2, level);
+			logTemplate(level, TemplateMessage.acquire(message, param), throwable);
+		}
+	}
+
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(level)) {
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.LOG4J2, level);
+			logTemplate(level, TemplateMessage.acquire(message, param1, param2), throwable);
+		}
+	}
+
+	@Override
+	public void log(Level level, String message, Throwable throwable, Object param1, Object param2, Object param3) {
+		if (isEnabled(level)) {
+			GLoggerMetrics.emitted(GLoggerMetrics.Adapter.LOG4J2, level);
+			logTemplate(level, TemplateMessage.acquire(message, param1, param2, param3), throwable);
+		}
+	}
+
+	/**
+	 * Effective level of a logger cached until a Log4j2 configuration or level changes.
+	 */
+	private static final class CachedLevel {
+
+		private final int version;
+
+		/**
+		 * {@link Level#intLevel()} of the effective level, or {@link #CHECK_LOGGER}.
+		 */
+		private final int intLevel;
+
+		private CachedLevel(int version, int intLevel) {
+			this.version = version;
+			this.intLevel = intLevel;
+		}
+	}
 }
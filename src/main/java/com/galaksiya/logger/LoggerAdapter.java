@@ -3,10 +3,19 @@ package com.galaksiya.logger;
 import org.apache.logging.log4j.Level;
 
 import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.apache.logging.log4j.Level.*;
 
 /**
  * Logger adapters are enable the use of different logging libraries. This interface can be implemented to implement new
  * logging methods.
+ * <br>
+ * Implementations provide the level check with {@link #isEnabled(Level)} and the message logging with {@link
+ * #log(Level, String, Throwable, Object[])}. Fixed-arity and {@link Supplier} methods are built on these two, so they
+ * do not allocate parameter arrays or evaluate the suppliers unless the level is enabled. Implementations cache their
+ * effective level, so {@link #isEnabled(Level)} and the level guards built on it are cheap enough to be called on each
+ * log call.
  *
  * @author Berkay Akdal
  * @version 1.0.0, 02,04,2019
@@ -55,4 +64,456 @@ interface LoggerAdapter {
 	void warn(Map<String, Object> map, Throwable t);
 
 	Level getLevel();
+
+	/**
+	 * Checks whether the logs of given level are printed by this adapter.
+	 *
+	 * @param level Level to check.
+	 * @return {@code true} if the given level is enabled.
+	 */
+	boolean isEnabled(Level level);
+
+	default boolean isTraceEnabled() {
+		return isEnabled(TRACE);
+	}
+
+	default boolean isDebugEnabled() {
+		return isEnabled(DEBUG);
+	}
+
+	default boolean isInfoEnabled() {
+		return isEnabled(INFO);
+	}
+
+	default boolean isWarnEnabled() {
+		return isEnabled(WARN);
+	}
+
+	default boolean isErrorEnabled() {
+		return isEnabled(ERROR);
+	}
+
+	default boolean isFatalEnabled() {
+		return isEnabled(FATAL);
+	}
+
+	/**
+	 * Formats the given message with the given params and logs it on given level, if and only if the level is
+	 * enabled.
+	 *
+	 * @param level     Level to log on.
+	 * @param message   Log message to format and print.
+	 * @param throwable Occurred exception to append to the log, may be {@code null}.
+	 * @param params    Parameters to format the given <code>message</code> with, may be {@code null}.
+	 */
+	void log(Level level, String message, Throwable throwable, Object[] params);
+
+	/**
+	 * Logs the given map on given level, if and only if the level is enabled. Adapters override it to log the map
+	 * with the throwable on any level.
+	 *
+	 * @param level     Level to log on.
+	 * @param map       Map to log.
+	 * @param throwable Occurred exception to append to the log, may be {@code null}.
+	 */
+	default void log(Level level, Map<String, Object> map, Throwable throwable) {
+		int intLevel = level.intLevel();
+		if (intLevel <= FATAL.intLevel()) {
+			fatal(map);
+		} else if (intLevel <= ERROR.intLevel()) {
+			error(map, throwable);
+		} else if (intLevel <= WARN.intLevel()) {
+			warn(map, throwable);
+		} else if (intLevel <= INFO.intLevel()) {
+			info(map);
+		} else if (intLevel <= DEBUG.intLevel()) {
+			debug(map);
+		} else {
+			trace(map);
+		}
+	}
+
+	/**
+	 * Works exactly like {@link #log(Level, String, Throwable, Object[])} with a single parameter. Adapters may
+	 * override it to avoid creating the parameter array.
+	 */
+	default void log(Level level, String message, Throwable throwable, Object param) {
+		log(level, message, throwable, new Object[]{param});
+	}
+
+	/**
+	 * Works exactly like {@link #log(Level, String, Throwable, Object[])} with two parameters. Adapters may override it
+	 * to avoid creating the parameter array.
+	 */
+	default void log(Level level, String message, Throwable throwable, Object param1, Object param2) {
+		log(level, message, throwable, new Object[]{param1, param2});
+	}
+
+	/**
+	 * Works exactly like {@link #log(Level, String, Throwable, Object[])} with three parameters. Adapters may override
+	 * it to avoid creating the parameter array.
+	 */
+	default void log(Level level, String message, Throwable throwable, Object param1, Object param2, Object param3) {
+		log(level, message, throwable, new Object[]{param1, param2, param3});
+	}
+
+	default void trace(String message) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, null, null);
+		}
+	}
+
+	default void trace(String message, Object param) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, null, param);
+		}
+	}
+
+	default void trace(String message, Object param1, Object param2) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, null, param1, param2);
+		}
+	}
+
+	default void trace(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, null, param1, param2, param3);
+		}
+	}
+
+	default void trace(String message, Throwable throwable) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, throwable, null);
+		}
+	}
+
+	default void trace(String message, Throwable throwable, Object param) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, throwable, param);
+		}
+	}
+
+	default void trace(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, message, throwable, param1, param2);
+		}
+	}
+
+	default void trace(Supplier<String> messageSupplier) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void trace(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(TRACE)) {
+			log(TRACE, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void traceMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(TRACE)) {
+			trace(mapSupplier.get());
+		}
+	}
+
+	default void debug(String message) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, null, null);
+		}
+	}
+
+	default void debug(String message, Object param) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, null, param);
+		}
+	}
+
+	default void debug(String message, Object param1, Object param2) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, null, param1, param2);
+		}
+	}
+
+	default void debug(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, null, param1, param2, param3);
+		}
+	}
+
+	default void debug(String message, Throwable throwable) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, throwable, null);
+		}
+	}
+
+	default void debug(String message, Throwable throwable, Object param) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, throwable, param);
+		}
+	}
+
+	default void debug(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, message, throwable, param1, param2);
+		}
+	}
+
+	default void debug(Supplier<String> messageSupplier) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void debug(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(DEBUG)) {
+			log(DEBUG, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void debugMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(DEBUG)) {
+			debug(mapSupplier.get());
+		}
+	}
+
+	default void info(String message) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, null, null);
+		}
+	}
+
+	default void info(String message, Object param) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, null, param);
+		}
+	}
+
+	default void info(String message, Object param1, Object param2) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, null, param1, param2);
+		}
+	}
+
+	default void info(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, null, param1, param2, param3);
+		}
+	}
+
+	default void info(String message, Throwable throwable) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, throwable, null);
+		}
+	}
+
+	default void info(String message, Throwable throwable, Object param) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, throwable, param);
+		}
+	}
+
+	default void info(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(INFO)) {
+			log(INFO, message, throwable, param1, param2);
+		}
+	}
+
+	default void info(Supplier<String> messageSupplier) {
+		if (isEnabled(INFO)) {
+			log(INFO, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void info(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(INFO)) {
+			log(INFO, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void infoMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(INFO)) {
+			info(mapSupplier.get());
+		}
+	}
+
+	default void warn(String message) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, null, null);
+		}
+	}
+
+	default void warn(String message, Object param) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, null, param);
+		}
+	}
+
+	default void warn(String message, Object param1, Object param2) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, null, param1, param2);
+		}
+	}
+
+	default void warn(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, null, param1, param2, param3);
+		}
+	}
+
+	default void warn(String message, Throwable throwable) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, throwable, null);
+		}
+	}
+
+	default void warn(String message, Throwable throwable, Object param) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, throwable, param);
+		}
+	}
+
+	default void warn(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(WARN)) {
+			log(WARN, message, throwable, param1, param2);
+		}
+	}
+
+	default void warn(Supplier<String> messageSupplier) {
+		if (isEnabled(WARN)) {
+			log(WARN, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void warn(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(WARN)) {
+			log(WARN, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void warnMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(WARN)) {
+			warn(mapSupplier.get());
+		}
+	}
+
+	default void error(String message) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, null, null);
+		}
+	}
+
+	default void error(String message, Object param) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, null, param);
+		}
+	}
+
+	default void error(String message, Object param1, Object param2) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, null, param1, param2);
+		}
+	}
+
+	default void error(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, null, param1, param2, param3);
+		}
+	}
+
+	default void error(String message, Throwable throwable) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, throwable, null);
+		}
+	}
+
+	default void error(String message, Throwable throwable, Object param) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, throwable, param);
+		}
+	}
+
+	default void error(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, message, throwable, param1, param2);
+		}
+	}
+
+	default void error(Supplier<String> messageSupplier) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void error(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(ERROR)) {
+			log(ERROR, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void errorMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(ERROR)) {
+			error(mapSupplier.get());
+		}
+	}
+
+	default void fatal(String message) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, null, null);
+		}
+	}
+
+	default void fatal(String message, Object param) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, null, param);
+		}
+	}
+
+	default void fatal(String message, Object param1, Object param2) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, null, param1, param2);
+		}
+	}
+
+	default void fatal(String message, Object param1, Object param2, Object param3) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, null, param1, param2, param3);
+		}
+	}
+
+	default void fatal(String message, Throwable throwable) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, throwable, null);
+		}
+	}
+
+	default void fatal(String message, Throwable throwable, Object param) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, throwable, param);
+		}
+	}
+
+	default void fatal(String message, Throwable throwable, Object param1, Object param2) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, message, throwable, param1, param2);
+		}
+	}
+
+	default void fatal(Supplier<String> messageSupplier) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, messageSupplier.get(), null, null);
+		}
+	}
+
+	default void fatal(Supplier<String> messageSupplier, Throwable throwable) {
+		if (isEnabled(FATAL)) {
+			log(FATAL, messageSupplier.get(), throwable, null);
+		}
+	}
+
+	default void fatalMap(Supplier<Map<String, Object>> mapSupplier) {
+		if (isEnabled(FATAL)) {
+			fatal(mapSupplier.get());
+		}
+	}
 }
@@ -0,0 +1,244 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery pipeline of a backend of the {@link CompositeLoggerAdapter}, shared by the adapters of that backend. A sink
+ * has its own level threshold, bounded queue and daemon thread, so a slow or failing backend does not delay the
+ * logging threads or the other backends;
+ * <ul>
+ * <li>an entry is offered to the queue without waiting and dropped if the queue is full,</li>
+ * <li>an exception thrown by the backend is caught on the sink thread and the next entries are delivered as usual.</li>
+ * </ul>
+ * Dropped entries and failures are counted and reported through the {@link StatusLogger} at most once every
+ * {@value #REPORT_INTERVAL_MILLIS} milliseconds, also for the failures on the logging threads.
+ * <br>
+ * A sink with zero queue capacity delivers the entries on the logging thread, still isolating the failures.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+class LoggerSink implements Runnable {
+
+	/**
+	 * Status logger to report the drops and failures. {@link GLogger} cannot be used for this purpose since it may end
+	 * up on this sink again.
+	 */
+	private static final Logger STATUS_LOGGER = StatusLogger.getLogger();
+
+	private static final long REPORT_INTERVAL_MILLIS = 60000;
+
+	private final String name;
+	private final GLoggerMetrics.Adapter adapter;
+
+	/**
+	 * Threshold of this sink and its {@link Level#intLevel()}, entries less specific than it are not delivered.
+	 */
+	private final Level threshold;
+	private final int intLevel;
+
+	/**
+	 * Queue of the entries to deliver, {@code null} if the entries are delivered on the logging thread.
+	 */
+	private final BlockingQueue<Entry> queue;
+	private final Thread thread;
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	/**
+	 * Counts reported by the last report, and the time the next report is due in {@link System#currentTimeMillis()}.
+	 * The thread advancing the due time makes the report, so any thread can report.
+	 */
+	private volatile long reportedDrops;
+	private volatile long reportedFailures;
+	private final AtomicLong reportAt = new AtomicLong();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Creates a new sink, and starts its thread unless the queue capacity is zero.
+	 *
+	 * @param name          Name of the sink, used in the thread name and the reports.
+	 * @param adapter       Kind of the adapters delivered to, to count the filtered entries for.
+	 * @param threshold     Entries less specific than this level are not delivered.
+	 * @param queueCapacity Maximum number of entries waiting to be delivered, zero to deliver on the logging thread.
+	 */
+	LoggerSink(String name, GLoggerMetrics.Adapter adapter, Level threshold, int queueCapacity) {
+		this.name = name;
+		this.adapter = adapter;
+		this.threshold = threshold;
+		this.intLevel = threshold.intLevel();
+		if (queueCapacity > 0) {
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+			this.thread = new Thread(this, "glogger-sink-" + name);
+			this.thread.setDaemon(true);
+			this.thread.start();
+			Runtime.getRuntime().addShutdownHook(new Thread(this::close, "glogger-sink-" + name + "-shutdown"));
+		} else {
+			this.queue = null;
+			this.thread = null;
+		}
+	}
+
+	/**
+	 * Checks the given level against the threshold of this sink and the current level of the given adapter.
+	 *
+	 * @param target Adapter to deliver to.
+	 * @param level  Level of the entry.
+	 * @return {@code true} if an entry of the given level is delivered to the given adapter.
+	 */
+	boolean accepts(LoggerAdapter target, Level level) {
+		int intLevel = level.intLevel();
+		if (intLevel > this.intLevel) {
+			return false;
+		}
+		Level targetLevel = target.getLevel();
+		return targetLevel == null || intLevel <= targetLevel.intLevel();
+	}
+
+	Level getThreshold() {
+		return this.threshold;
+	}
+
+	GLoggerMetrics.Adapter getAdapter() {
+		return this.adapter;
+	}
+
+	/**
+	 * Delivers the given entry to its adapter, queueing it unless the sink delivers on the logging thread.
+	 *
+	 * @param entry Entry to deliver.
+	 */
+	void offer(Entry entry) {
+		if (this.queue == null || !this.running) {
+			deliver(entry);
+		} else if (!this.queue.offer(entry)) {
+			this.dropped.increment();
+		}
+	}
+
+	/**
+	 * @return Number of the entries dropped since the queue is full.
+	 */
+	long getDroppedCount() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * @return Number of the entries the adapter failed to log.
+	 */
+	long getFailedCount() {
+		return this.failed.sum();
+	}
+
+	private void deliver(Entry entry) {
+		try {
+			entry.deliver();
+		} catch (RuntimeException e) {
+			this.failed.increment();
+			report(e);
+		}
+	}
+
+	/**
+	 * Reports the drops and failures since the previous report if the report interval is passed. Called by the sink
+	 * thread, and by the logging threads when they fail to deliver an entry.
+	 *
+	 * @param failure Last failure, may be {@code null}.
+	 */
+	private void report(RuntimeException failure) {
+		long now = System.currentTimeMillis();
+		long due = this.reportAt.get();
+		if (now < due) {
+			return;
+		}
+		long drops = this.dropped.sum();
+		long failures = this.failed.sum();
+		if ((drops != this.reportedDrops || failures != this.reportedFailures)
+				&& this.reportAt.compareAndSet(due, now + REPORT_INTERVAL_MILLIS)) {
+			long newDrops = drops - this.reportedDrops;
+			long newFailures = failures - this.reportedFailures;
+			this.reportedDrops = drops;
+			this.reportedFailures = failures;
+			STATUS_LOGGER.warn("GLogger sink {} dropped {} and failed to log {} entries", this.name, newDrops,
+					newFailures, failure);
+		}
+	}
+
+	@Override
+	public void run() {
+		while (this.running || !this.queue.isEmpty()) {
+			try {
+				Entry entry = this.queue.poll(100, TimeUnit.MILLISECONDS);
+				if (entry != null) {
+					deliver(entry);
+				}
+				report(null);
+			} catch (InterruptedException e) {
+				// Closing, deliver whatever is left without waiting.
+				this.running = false;
+			}
+		}
+		report(null);
+	}
+
+	/**
+	 * Stops queueing new entries, delivers the queued ones and waits for the sink thread to finish.
+	 */
+	void close() {
+		this.running = false;
+		if (this.thread != null) {
+			try {
+				this.thread.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Entry to deliver to an adapter. Messages are formatted and maps are copied on the logging thread, so an entry
+	 * does not refer to any state of the caller. The formatted message or the copied map is shared by the entries of
+	 * a log call.
+	 */
+	static final class Entry {
+
+		private final LoggerAdapter target;
+		private final Level level;
+		private final String message;
+		private final Map<String, Object> map;
+		private final Throwable throwable;
+
+		/**
+		 * @param target    Adapter to log the entry with.
+		 * @param level     Level of the entry.
+		 * @param message   Formatted message, {@code null} for a map entry.
+		 * @param map       Copy of the logged map, {@code null} for a message entry.
+		 * @param throwable Occurred exception to append to the log, may be {@code null}.
+		 */
+		Entry(LoggerAdapter target, Level level, String message, Map<String, Object> map, Throwable throwable) {
+			this.target = target;
+			this.level = level;
+			this.message = message;
+			this.map = map;
+			this.throwable = throwable;
+		}
+
+		private void deliver() {
+			if (this.map == null) {
+				this.target.log(this.level, this.message, this.throwable, (Object[]) null);
+			} else {
+				this.target.log(this.level, this.map, this.throwable);
+			}
+		}
+	}
+}
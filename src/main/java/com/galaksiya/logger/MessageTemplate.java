@@ -0,0 +1,258 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precompiled form of a log message to replace the {@link String#format(String, Object...)} calls on the logging path.
+ * Each message is parsed only once into its literal parts and conversions, and kept in a cache since the log messages
+ * are mostly compile-time constants. Rendering appends the literals and parameters into a reusable thread-local
+ * {@link StringBuilder}.
+ * <br>
+ * Supported conversions are the subset used with the log messages;
+ * <ul>
+ * <li><i>%s</i> and <i>%d</i> without any flags, width, precision or index,</li>
+ * <li><i>%%</i> and <i>%n</i>,</li>
+ * <li><i>{}</i> placeholders, only if enabled with <i>com.galaksiya.logging.messagePlaceholders</i> and the message
+ * does not contain any <i>%</i> character.</li>
+ * </ul>
+ * Messages using any other conversion, and renderings that would fail or differ on {@link String#format(String,
+ * Object...)} (e.g. missing parameters, {@link Formattable} parameters, non-integral <i>%d</i> parameters) are
+ * delegated to {@link String#format(String, Object...)}, so the output and the errors stay the same. The <i>{}</i>
+ * placeholders are off by default since {@link String#format(String, Object...)} keeps them as they are.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class MessageTemplate {
+
+	/**
+	 * Maximum number of templates to cache. Messages built at runtime are parsed without caching once the cache is full,
+	 * so they cannot grow the cache without bounds.
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 4096;
+
+	/**
+	 * Maximum capacity of a thread-local buffer to keep it for reuse. Larger buffers are dropped after the rendering.
+	 */
+	private static final int MAX_REUSABLE_BUFFER_CAPACITY = 8192;
+
+	private static final char STRING = 's';
+	private static final char DECIMAL = 'd';
+	private static final char PLACEHOLDER = '{';
+
+	/**
+	 * Indicates whether the <i>{}</i> placeholders are formatted. Read once, since the cached templates depend on it.
+	 */
+	private static final boolean PLACEHOLDERS = GLoggerConfig.getInstance().isMessagePlaceholdersEnabled();
+
+	private static final ConcurrentMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+	/**
+	 * Returns the template of the given message, parsing and caching it if necessary.
+	 *
+	 * @param message Message to get the template of.
+	 * @return Template of the given message.
+	 */
+	static MessageTemplate of(String message) {
+		MessageTemplate template = CACHE.get(message);
+		if (template == null) {
+			template = new MessageTemplate(message);
+			if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+				CACHE.putIfAbsent(message, template);
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Formats the given message with the given params. Replacement of the {@link String#format(String, Object...)}
+	 * calls.
+	 *
+	 * @param message Message to format.
+	 * @param params  Parameters to format the given <code>message</code> with.
+	 * @return Formatted message.
+	 */
+	static String format(String message, Object... params) {
+		return of(message).format(params);
+	}
+
+	private final String message;
+
+	/**
+	 * Literal parts of the message, one more than the {@link #conversions}. The literal at index <i>i</i> is placed
+	 * before the conversion at index <i>i</i>.
+	 */
+	private final String[] literals;
+
+	private final char[] conversions;
+
+	/**
+	 * Indicates whether the message uses a conversion that is not supported, and must be formatted with {@link
+	 * String#format(String, Object...)}.
+	 */
+	private final boolean unsupported;
+
+	private MessageTemplate(String message) {
+		this.message = message;
+
+		List<String> literalList = new ArrayList<>();
+		StringBuilder conversionList = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		boolean isUnsupported = false;
+		int length = message.length();
+		for (int i = 0; i < length && !isUnsupported; i++) {
+			char c = message.charAt(i);
+			if (c != '%') {
+				literal.append(c);
+			} else if (i + 1 == length) {
+				isUnsupported = true;
+			} else {
+				char conversion = message.charAt(++i);
+				if (conversion == '%') {
+					literal.append('%');
+				} else if (conversion == 'n') {
+					literal.append(System.lineSeparator());
+				} else if (conversion == STRING || conversion == DECIMAL) {
+					literalList.add(literal.toString());
+					literal.setLength(0);
+					conversionList.append(conversion);
+				} else {
+					isUnsupported = true;
+				}
+			}
+		}
+		if (PLACEHOLDERS && message.indexOf('%') < 0) {
+			// Message does not contain any format specifiers, look for the {} placeholders.
+			literal.setLength(0);
+			int start = 0;
+			int index;
+			while ((index = message.indexOf("{}", start)) >= 0) {
+				literal.append(message, start, index);
+				literalList.add(literal.toString());
+				literal.setLength(0);
+				conversionList.append(PLACEHOLDER);
+				start = index + 2;
+			}
+			literal.append(message, start, length);
+		}
+		literalList.add(literal.toString());
+
+		this.unsupported = isUnsupported;
+		this.literals = literalList.toArray(new String[0]);
+		this.conversions = conversionList.toString().toCharArray();
+	}
+
+	/**
+	 * Renders this template with the given params.
+	 *
+	 * @param params Parameters to render this template with.
+	 * @return Rendered message.
+	 */
+	String format(Object[] params) {
+		if (this.unsupported) {
+			return String.format(this.message, params);
+		}
+		Buffer buffer = BUFFER.get();
+		if (buffer.inUse) {
+			// A parameter is logging in its toString method, the thread-local buffer cannot be shared.
+			StringBuilder builder = new StringBuilder(this.message.length() + 16 * this.conversions.length);
+			return formatTo(builder, params) ? builder.toString() : String.format(this.message, params);
+		}
+		buffer.inUse = true;
+		try {
+			StringBuilder builder = buffer.builder;
+			builder.setLength(0);
+			String formatted = formatTo(builder, params) ? builder.toString() : String.format(this.message, params);
+			if (builder.capacity() > MAX_REUSABLE_BUFFER_CAPACITY) {
+				buffer.builder = new StringBuilder(MAX_REUSABLE_BUFFER_CAPACITY);
+			}
+			return formatted;
+		} finally {
+			buffer.inUse = false;
+		}
+	}
+
+	/**
+	 * Appends this template rendered with the given params to the given builder. If the rendering cannot be done
+	 * exactly like {@link String#format(String, Object...)}, the builder is left partially written and {@code false} is
+	 * returned.
+	 *
+	 * @param builder Builder to append to.
+	 * @param params  Parameters to render this template with.
+	 * @return {@code true} if the template is rendered, {@code false} if it must be formatted with {@link
+	 * String#format(String, Object...)}.
+	 */
+	boolean formatTo(StringBuilder builder, Object[] params) {
+		return formatTo(builder, params, params == null ? 0 : params.length);
+	}
+
+	/**
+	 * Works exactly like {@link #formatTo(StringBuilder, Object[])}, using only the first <code>paramCount</code>
+	 * elements of the given params, so a reused array can be passed.
+	 *
+	 * @param builder    Builder to append to.
+	 * @param params     Parameters to render this template with.
+	 * @param paramCount Number of the parameters in the given array.
+	 * @return {@code true} if the template is rendered, {@code false} if it must be formatted with {@link
+	 * String#format(String, Object...)}.
+	 */
+	boolean formatTo(StringBuilder builder, Object[] params, int paramCount) {
+		if (this.unsupported) {
+			return false;
+		}
+		builder.append(this.literals[0]);
+		for (int i = 0; i < this.conversions.length; i++) {
+			char conversion = this.conversions[i];
+			if (i >= paramCount) {
+				if (conversion != PLACEHOLDER) {
+					return false;
+				}
+				builder.append("{}");
+			} else if (!append(builder, conversion, params[i])) {
+				return false;
+			}
+			builder.append(this.literals[i + 1]);
+		}
+		return true;
+	}
+
+	private static boolean append(StringBuilder builder, char conversion, Object param) {
+		if (param instanceof Formattable) {
+			return false;
+		}
+		if (conversion == DECIMAL && param != null) {
+			if (param instanceof Integer || param instanceof Short || param instanceof Byte) {
+				builder.append(((Number) param).intValue());
+			} else if (param instanceof Long) {
+				builder.append(((Long) param).longValue());
+			} else if (param instanceof BigInteger) {
+				builder.append(param);
+			} else {
+				return false;
+			}
+		} else if (param instanceof String) {
+			builder.append((String) param);
+		} else {
+			builder.append(param);
+		}
+		return true;
+	}
+
+	/**
+	 * Thread-local rendering buffer.
+	 */
+	private static final class Buffer {
+
+		private StringBuilder builder = new StringBuilder(256);
+		private boolean inUse;
+	}
+}
@@ -0,0 +1,225 @@
+package com.galaksiya.logger;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Context id of the current operation of a thread, propagated to the operations started on other threads. A context id
+ * is current only within an explicit scope, opened with {@link #open(String)} or {@link OperationLog#openContext()} and
+ * closed with try-with-resources, and the operation logs started within the scope without an explicit context id are
+ * chained to it. So an operation abandoned without completing does not leave its context id on a pooled thread. This
+ * can be disabled with the <i>com.galaksiya.logging.contextId.propagate</i> configuration.
+ * <pre>
+ * OperationLog operation = logger.startOperation("handleRequest");
+ * try (OperationContext.Scope scope = operation.openContext()) {
+ *     // Operation logs started here, and by the tasks wrapped here, are chained to the request.
+ *     operation.succeed();
+ * }
+ * </pre>
+ * The tasks handed over to other threads carry the context with the wrappers of this class; the context is captured
+ * when the task is wrapped, or submitted to a wrapped executor, and it is the current context of the thread running the
+ * task until the task returns. So the operations started by the task are chained to the operation that submitted it.
+ * The context is a single reference, wrapping a task copies only that reference.
+ * <pre>
+ * ExecutorService executor = OperationContext.wrap(Executors.newFixedThreadPool(4));
+ * CompletableFuture.supplyAsync(OperationContext.wrapSupplier(() -&gt; load(id)));
+ * CompletableFuture.runAsync(() -&gt; refresh(id), executor);
+ * </pre>
+ * The context is kept in a thread local, accessed only through this class so it can be replaced with a scoped value.
+ * The scopes and the wrapped tasks restore the previous context of the thread, so the threads of a pool do not carry a
+ * context from one task to another.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class OperationContext {
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	private OperationContext() {
+	}
+
+	/**
+	 * Returns the context id of the current operation of the calling thread.
+	 *
+	 * @return Current context id, {@code null} if there is no current operation.
+	 */
+	public static String current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Makes the given context id current on the calling thread until the returned scope is closed.
+	 * <pre>
+	 * try (OperationContext.Scope scope = OperationContext.open(request.getHeader("X-Context-Id"))) {
+	 *     // Operation logs started here are chained to the given context id.
+	 * }
+	 * </pre>
+	 *
+	 * @param contextId Context id to make current, {@code null} to clear the current context.
+	 * @return Scope restoring the previous context once closed.
+	 */
+	public static Scope open(String contextId) {
+		String previous = CURRENT.get();
+		CURRENT.set(contextId);
+		return new Scope(previous);
+	}
+
+	/**
+	 * Wraps the given task to run it with the current context of the calling thread.
+	 *
+	 * @param task Task to wrap.
+	 * @return Wrapped task, or the given task itself if there is no current context.
+	 */
+	public static Runnable wrap(Runnable task) {
+		String context = CURRENT.get();
+		if (context == null) {
+			return task;
+		}
+		return () -> {
+			String previous = CURRENT.get();
+			CURRENT.set(context);
+			try {
+				task.run();
+			} finally {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given task to run it with the current context of the calling thread.
+	 *
+	 * @param task Task to wrap.
+	 * @param <T>  Result type of the task.
+	 * @return Wrapped task, or the given task itself if there is no current context.
+	 */
+	public static <T> Callable<T> wrap(Callable<T> task) {
+		String context = CURRENT.get();
+		if (context == null) {
+			return task;
+		}
+		return () -> {
+			String previous = CURRENT.get();
+			CURRENT.set(context);
+			try {
+				return task.call();
+			} finally {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given supplier to run it with the current context of the calling thread, e.g. for {@link
+	 * java.util.concurrent.CompletableFuture#supplyAsync(Supplier)}. Named differently from the other wrappers, since a
+	 * lambda returning a value would fit both a {@link Supplier} and a {@link Callable}.
+	 *
+	 * @param supplier Supplier to wrap.
+	 * @param <T>      Result type of the supplier.
+	 * @return Wrapped supplier, or the given supplier itself if there is no current context.
+	 */
+	public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+		String context = CURRENT.get();
+		if (context == null) {
+			return supplier;
+		}
+		return () -> {
+			String previous = CURRENT.get();
+			CURRENT.set(context);
+			try {
+				return supplier.get();
+			} finally {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given executor to run each task with the context of the thread submitting it.
+	 *
+	 * @param executor Executor to wrap.
+	 * @return Wrapped executor.
+	 */
+	public static Executor wrap(Executor executor) {
+		return command -> executor.execute(wrap(command));
+	}
+
+	/**
+	 * Wraps the given executor service to run each task with the context of the thread submitting it. Shutting down
+	 * the wrapped executor service shuts down the given one.
+	 *
+	 * @param executor Executor service to wrap.
+	 * @return Wrapped executor service.
+	 */
+	public static ExecutorService wrap(ExecutorService executor) {
+		return new ContextExecutorService(executor);
+	}
+
+	/**
+	 * Scope of a context made current with {@link #open(String)}.
+	 */
+	public static final class Scope implements AutoCloseable {
+
+		private final String previous;
+
+		private Scope(String previous) {
+			this.previous = previous;
+		}
+
+		/**
+		 * Restores the context that was current when this scope is opened.
+		 */
+		@Override
+		public void close() {
+			CURRENT.set(this.previous);
+		}
+	}
+
+	/**
+	 * Executor service wrapping each task on submission, see {@link #wrap(ExecutorService)}.
+	 */
+	private static final class ContextExecutorService extends AbstractExecutorService {
+
+		private final ExecutorService executor;
+
+		private ContextExecutorService(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			this.executor.execute(wrap(command));
+		}
+
+		@Override
+		public void shutdown() {
+			this.executor.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return this.executor.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return this.executor.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return this.executor.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return this.executor.awaitTermination(timeout, unit);
+		}
+	}
+}
@@ -0,0 +1,449 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.Level;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Field storage of the {@link OperationLog}. Keys, levels and values are kept inline in parallel arrays instead of a
+ * map of entries, so adding a field does not allocate anything unless the arrays need to grow. Operation logs contain
+ * only a handful of fields, so lookups are linear scans comparing the cached key hashes first.
+ * <br>
+ * Primitive values are kept unboxed; their raw bits are stored in a separate array, while the value slot holds a marker
+ * of their type. They are boxed only if they are read through the {@link Map} view. Deferred values are kept the same
+ * way; their suppliers are kept in a separate array and called only when the field is read, namely when it is emitted.
+ * <br>
+ * Fields are filtered by their levels during emission through a reusable {@link Map} view, see {@link #view(Level,
+ * boolean)}, without copying them into another map. The view can also write the filtered fields straight into a
+ * {@link StringBuilder} as a JSON object, see {@link View#formatJsonTo(StringBuilder)}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class OperationFields {
+
+	/**
+	 * Value markers of the primitive fields, whose values are kept in {@link #primitives}.
+	 */
+	private static final Object LONG = new Object();
+	private static final Object DOUBLE = new Object();
+	private static final Object FLOAT = new Object();
+	private static final Object BOOLEAN = new Object();
+
+	/**
+	 * Value marker of the deferred fields, whose suppliers are kept in {@link #suppliers}.
+	 */
+	private static final Object DEFERRED = new Object();
+
+	private String[] keys;
+	private int[] hashes;
+	private Level[] levels;
+	private Object[] values;
+	private long[] primitives;
+	private Supplier<?>[] suppliers;
+	private int size;
+
+	/**
+	 * Reusable filtered view of these fields.
+	 */
+	private final View view = new View();
+
+	/**
+	 * Creates a new field storage.
+	 *
+	 * @param capacity Expected number of fields.
+	 */
+	OperationFields(int capacity) {
+		capacity = Math.max(capacity, 1);
+		this.keys = new String[capacity];
+		this.hashes = new int[capacity];
+		this.levels = new Level[capacity];
+		this.values = new Object[capacity];
+		this.primitives = new long[capacity];
+		this.suppliers = new Supplier<?>[capacity];
+	}
+
+	/**
+	 * Puts the given field, overwriting the previous field with the same name if exists.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @param value Value of the field.
+	 */
+	void put(String key, Level level, Object value) {
+		this.values[slot(key, level)] = value;
+	}
+
+	/**
+	 * Puts the given long field without boxing, overwriting the previous field with the same name if exists.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @param value Value of the field.
+	 */
+	void put(String key, Level level, long value) {
+		putPrimitive(key, level, LONG, value);
+	}
+
+	/**
+	 * Puts the given double field without boxing, overwriting the previous field with the same name if exists.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @param value Value of the field.
+	 */
+	void put(String key, Level level, double value) {
+		putPrimitive(key, level, DOUBLE, Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Puts the given float field without boxing, overwriting the previous field with the same name if exists. Kept as a
+	 * float, so it is written as a float rather than as a widened double.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @param value Value of the field.
+	 */
+	void put(String key, Level level, float value) {
+		putPrimitive(key, level, FLOAT, Float.floatToRawIntBits(value));
+	}
+
+	/**
+	 * Puts the given boolean field without boxing, overwriting the previous field with the same name if exists.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @param value Value of the field.
+	 */
+	void put(String key, Level level, boolean value) {
+		putPrimitive(key, level, BOOLEAN, value ? 1 : 0);
+	}
+
+	/**
+	 * Puts the given field with a value to be supplied when the field is read, overwriting the previous field with the
+	 * same name if exists.
+	 *
+	 * @param key           Name of the field.
+	 * @param level         Level of logging which the field must be printed.
+	 * @param valueSupplier Supplier of the value of the field.
+	 */
+	void put(String key, Level level, Supplier<?> valueSupplier) {
+		int index = slot(key, level);
+		this.values[index] = DEFERRED;
+		this.suppliers[index] = valueSupplier;
+	}
+
+	private void putPrimitive(String key, Level level, Object type, long bits) {
+		int index = slot(key, level);
+		this.values[index] = type;
+		this.primitives[index] = bits;
+	}
+
+	/**
+	 * Finds the slot of the given field, appending a new slot if the field is not present, and sets its level.
+	 *
+	 * @param key   Name of the field.
+	 * @param level Level of logging which the field must be printed.
+	 * @return Index of the slot.
+	 */
+	private int slot(String key, Level level) {
+		int hash = key.hashCode();
+		int index = indexOf(key, hash);
+		if (index < 0) {
+			if (this.size == this.keys.length) {
+				grow();
+			}
+			index = this.size++;
+			this.keys[index] = key;
+			this.hashes[index] = hash;
+		}
+		this.levels[index] = level;
+		return index;
+	}
+
+	/**
+	 * Returns the value of the given field.
+	 *
+	 * @param key Name of the field.
+	 * @return Value of the field, {@code null} if not present.
+	 */
+	Object get(String key) {
+		int index = indexOf(key, key.hashCode());
+		return index < 0 ? null : value(index);
+	}
+
+	/**
+	 * Grows the storage, if necessary, to hold the given number of fields without growing again.
+	 *
+	 * @param capacity Expected number of fields.
+	 */
+	void ensureCapacity(int capacity) {
+		if (capacity > this.keys.length) {
+			resize(capacity);
+		}
+	}
+
+	/**
+	 * Removes all the fields, keeping the allocated arrays.
+	 */
+	void clear() {
+		Arrays.fill(this.keys, 0, this.size, null);
+		Arrays.fill(this.levels, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		Arrays.fill(this.suppliers, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Returns a map view of the fields whose levels are enabled on the given level. The same view instance is returned
+	 * on each call, so it must be consumed before the next call and before these fields change. The entries returned
+	 * by the iterators of the view are reused as well, they must not be kept.
+	 *
+	 * @param currentLevel Current log level to filter the fields with.
+	 * @param verbose      Includes all the fields regardless of their levels.
+	 * @return Filtered view of the fields.
+	 */
+	Map<String, Object> view(Level currentLevel, boolean verbose) {
+		this.view.threshold = verbose ? Integer.MAX_VALUE : currentLevel.intLevel();
+		return this.view;
+	}
+
+	private int indexOf(String key, int hash) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.hashes[i] == hash && key.equals(this.keys[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void grow() {
+		resize(this.keys.length << 1);
+	}
+
+	private void resize(int capacity) {
+		this.keys = Arrays.copyOf(this.keys, capacity);
+		this.hashes = Arrays.copyOf(this.hashes, capacity);
+		this.levels = Arrays.copyOf(this.levels, capacity);
+		this.values = Arrays.copyOf(this.values, capacity);
+		this.primitives = Arrays.copyOf(this.primitives, capacity);
+		this.suppliers = Arrays.copyOf(this.suppliers, capacity);
+	}
+
+	/**
+	 * Returns the value of the field at the given index, boxing it if it is a primitive.
+	 *
+	 * @param index Index of the field.
+	 * @return Value of the field.
+	 */
+	private Object value(int index) {
+		Object value = this.values[index];
+		if (value == DEFERRED) {
+			return supply(index);
+		} else if (value == LONG) {
+			return this.primitives[index];
+		} else if (value == DOUBLE) {
+			return Double.longBitsToDouble(this.primitives[index]);
+		} else if (value == FLOAT) {
+			return Float.intBitsToFloat((int) this.primitives[index]);
+		} else if (value == BOOLEAN) {
+			return this.primitives[index] != 0;
+		}
+		return value;
+	}
+
+	/**
+	 * Appends the value of the field at the given index as JSON, without boxing it if it is a primitive.
+	 *
+	 * @param builder Builder to append to.
+	 * @param index   Index of the field.
+	 */
+	private void appendValue(StringBuilder builder, int index) {
+		Object value = this.values[index];
+		if (value == DEFERRED) {
+			JsonEncoder.appendValue(builder, supply(index));
+		} else if (value == LONG) {
+			JsonEncoder.appendLong(builder, this.primitives[index]);
+		} else if (value == DOUBLE) {
+			JsonEncoder.appendDouble(builder, Double.longBitsToDouble(this.primitives[index]));
+		} else if (value == FLOAT) {
+			JsonEncoder.appendFloat(builder, Float.intBitsToFloat((int) this.primitives[index]));
+		} else if (value == BOOLEAN) {
+			builder.append(this.primitives[index] != 0);
+		} else {
+			JsonEncoder.appendValue(builder, value);
+		}
+	}
+
+	/**
+	 * Calls the supplier of the deferred field at the given index and keeps the supplied value in place of it, so the
+	 * supplier is called at most once.
+	 *
+	 * @param index Index of the deferred field.
+	 * @return Supplied value, or the description of the exception thrown by the supplier.
+	 */
+	private Object supply(int index) {
+		Object value;
+		try {
+			value = this.suppliers[index].get();
+		} catch (RuntimeException e) {
+			// A failing field must not prevent the operation log from being emitted.
+			value = String.valueOf(e);
+		}
+		this.values[index] = value;
+		this.suppliers[index] = null;
+		return value;
+	}
+
+	private boolean isIncluded(int index, int threshold) {
+		return this.levels[index].intLevel() <= threshold;
+	}
+
+	/**
+	 * Read-only map view of the fields filtered by their levels.
+	 */
+	final class View extends AbstractMap<String, Object> {
+
+		/**
+		 * Fields with a greater level than this value are filtered out, see {@link Level#intLevel()}.
+		 */
+		private int threshold;
+
+		private final EntrySet entrySet = new EntrySet();
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return this.entrySet;
+		}
+
+		@Override
+		public int size() {
+			int count = 0;
+			for (int i = 0; i < OperationFields.this.size; i++) {
+				if (isIncluded(i, this.threshold)) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+			int index = indexOf((String) key, key.hashCode());
+			return index >= 0 && isIncluded(index, this.threshold) ? value(index) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+			int index = indexOf((String) key, key.hashCode());
+			return index >= 0 && isIncluded(index, this.threshold);
+		}
+
+		/**
+		 * Appends the fields of this view as a JSON object, without boxing the primitives or creating any entry.
+		 *
+		 * @param builder Builder to append to.
+		 */
+		void formatJsonTo(StringBuilder builder) {
+			builder.append('{');
+			boolean first = true;
+			for (int i = 0; i < OperationFields.this.size; i++) {
+				if (isIncluded(i, this.threshold)) {
+					if (!first) {
+						builder.append(',');
+					}
+					first = false;
+					JsonEncoder.appendString(builder, keys[i]);
+					builder.append(':');
+					appendValue(builder, i);
+				}
+			}
+			builder.append('}');
+		}
+
+		private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new FieldIterator(threshold);
+			}
+
+			@Override
+			public int size() {
+				return View.this.size();
+			}
+		}
+	}
+
+	/**
+	 * Iterator over the included fields. The iterator is the entry it returns, so iterating does not allocate an entry
+	 * per field.
+	 */
+	private final class FieldIterator implements Iterator<Map.Entry<String, Object>>, Map.Entry<String, Object> {
+
+		private final int threshold;
+		private int next;
+		private int current = -1;
+
+		private FieldIterator(int threshold) {
+			this.threshold = threshold;
+			this.next = advance(0);
+		}
+
+		private int advance(int from) {
+			int index = from;
+			while (index < size && !isIncluded(index, this.threshold)) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next < size;
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.current = this.next;
+			this.next = advance(this.next + 1);
+			return this;
+		}
+
+		@Override
+		public String getKey() {
+			return keys[this.current];
+		}
+
+		@Override
+		public Object getValue() {
+			return value(this.current);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process latency histograms of the {@link OperationLog}s per operation name and status, enabled with the
+ * <i>com.galaksiya.logging.operationLog.histograms</i> configuration. Each completed operation records its
+ * <i>_operationTook</i> into a {@link LatencyHistogram} before it is sampled or filtered, so the latencies stay exact
+ * while the operation logs themselves are sampled or turned off.
+ * <br>
+ * A daemon thread logs a summary of each histogram on the configured interval, with INFO level and the following
+ * fields, and starts the next interval;
+ * <pre>
+ * {"_operationName": "getUser", "_operationStatus": "succeeded", "_operationCount": 1200,
+ *  "_operationTookP50": 12, "_operationTookP90": 31, "_operationTookP99": 95, "_operationTookMax": 240}
+ * </pre>
+ * Durations are in the unit of <i>_operationTook</i>, see the <i>com.galaksiya.logging.operationLog.timeUnit</i>
+ * configuration. Percentiles are accurate to 6.25%, the count and the maximum are exact. Operations with no record in
+ * the interval are not logged.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class OperationHistograms {
+
+	private static final String SUCCEEDED = "succeeded";
+	private static final String FAILED = "failed";
+
+	private static final ConcurrentMap<String, Histograms> HISTOGRAMS = new ConcurrentHashMap<>();
+
+	/**
+	 * Indicates whether the histogram limit is reached and reported, to report it once.
+	 */
+	private static final AtomicBoolean LIMIT_REPORTED = new AtomicBoolean();
+
+	private static ScheduledExecutorService reporter;
+
+	private OperationHistograms() {
+	}
+
+	/**
+	 * Records the duration of a completed operation.
+	 *
+	 * @param operationName Name of the operation.
+	 * @param succeeded     Indicates whether the operation succeeded or failed.
+	 * @param took          Duration of the operation.
+	 */
+	static void record(String operationName, boolean succeeded, long took) {
+		Histograms histograms = HISTOGRAMS.get(operationName);
+		if (histograms == null) {
+			GLoggerConfig config = GLoggerConfig.getInstance();
+			if (HISTOGRAMS.size() >= config.getOperationHistogramsMaxOperations()) {
+				if (LIMIT_REPORTED.compareAndSet(false, true)) {
+					StatusLogger.getLogger().warn("Operation histogram limit {} is reached, operation {} and the "
+							+ "next new operations are not recorded", HISTOGRAMS.size(), operationName);
+				}
+				return;
+			}
+			histograms = HISTOGRAMS.computeIfAbsent(operationName, name -> new Histograms());
+			startReporter(config.getOperationHistogramsIntervalSeconds());
+		}
+		(succeeded ? histograms.succeeded : histograms.failed).record(took);
+	}
+
+	private static synchronized void startReporter(long intervalSeconds) {
+		if (reporter == null) {
+			reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "glogger-histogram-reporter");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long interval = Math.max(intervalSeconds, 1);
+			reporter.scheduleAtFixedRate(OperationHistograms::report, interval, interval, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Logs the summaries of the histograms recorded since the previous report and resets them. Called on the
+	 * configured interval, may be called before shutdown not to lose the last interval.
+	 */
+	public static void report() {
+		try {
+			for (Map.Entry<String, Histograms> entry : HISTOGRAMS.entrySet()) {
+				report(entry.getKey(), SUCCEEDED, entry.getValue().succeeded.snapshotAndReset());
+				report(entry.getKey(), FAILED, entry.getValue().failed.snapshotAndReset());
+			}
+		} catch (RuntimeException e) {
+			// Keep the reporter scheduled.
+			StatusLogger.getLogger().error("Operation histograms cannot be reported", e);
+		}
+	}
+
+	private static void report(String operationName, String status, LatencyHistogram.Snapshot snapshot) {
+		if (snapshot.getCount() == 0) {
+			return;
+		}
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("_operationName", operationName);
+		map.put("_operationStatus", status);
+		map.put("_operationCount", snapshot.getCount());
+		map.put("_operationTookP50", snapshot.getValueAtPercentile(50));
+		map.put("_operationTookP90", snapshot.getValueAtPercentile(90));
+		map.put("_operationTookP99", snapshot.getValueAtPercentile(99));
+		map.put("_operationTookMax", snapshot.getMax());
+		LoggerHolder.LOGGER.info(map);
+	}
+
+	/**
+	 * Histograms of an operation.
+	 */
+	private static final class Histograms {
+
+		private final LatencyHistogram succeeded = new LatencyHistogram();
+		private final LatencyHistogram failed = new LatencyHistogram();
+	}
+
+	/**
+	 * Holder of the summary logger, created on the first report not to create a logger while an operation log is
+	 * being initialized.
+	 */
+	private static final class LoggerHolder {
+
+		private static final GLogger LOGGER = new GLogger(OperationHistograms.class);
+	}
+}
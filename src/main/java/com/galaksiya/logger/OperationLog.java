@@ -1,14 +1,16 @@
 package com.galaksiya.logger;
 
 import com.galaksiya.logger.config.GLoggerConfig;
+import com.galaksiya.logger.sampling.OperationSampler;
 import org.apache.logging.log4j.Level;
 
-import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.apache.logging.log4j.Level.*;
 
@@ -28,6 +30,28 @@ import static org.apache.logging.log4j.Level.*;
  * </ul>
  * The logger will create a log with TRACE level initially and by default an INFO log when gets completed.
  * <br>
+ * Success logs of an operation can be sampled with the <i>com.galaksiya.logging.operationLog.sampling</i>
+ * configuration, see {@link com.galaksiya.logger.sampling.OperationSamplers}. Warn, fail and fatal logs are always
+ * logged.
+ * <br>
+ * Fields of all levels are kept until the operation completes and filtered only when logged. With the
+ * <i>com.galaksiya.logging.operationLog.tailRetention</i> configuration, the warn, fail and fatal logs, and the
+ * success logs of the operations taking longer than the configured latency, contain all the fields as if they were
+ * verbose. So the DEBUG and TRACE fields of the failed or slow operations are logged without running the application
+ * on DEBUG level.
+ * <br>
+ * Durations of the operations can be recorded into in-process latency histograms, summarized periodically, with the
+ * <i>com.galaksiya.logging.operationLog.histograms</i> configuration. See {@link OperationHistograms}.
+ * <br>
+ * Operations are timed with {@link System#nanoTime()} and <i>_operationTook</i> is written in the unit configured with
+ * the <i>com.galaksiya.logging.operationLog.timeUnit</i> configuration, milliseconds by default. Sub-steps of an
+ * operation can be timed with {@link #child(String)}, their durations are written to the same log, see {@link
+ * OperationSpan}.
+ * <br>
+ * Within the scope opened with {@link #openContext()}, the context id of an operation log is the current context of
+ * its thread, see {@link OperationContext}. Operation logs started without a context id are chained to the current
+ * context, including the ones started by the tasks submitted through the {@link OperationContext} wrappers.
+ * <br>
  * Exit log level can be overwritten while creating the operation log. Accepted levels are, TRACE, DEBUG and INFO.
  * <br>
  * An example usage of operation logs is as follows:
@@ -61,11 +85,60 @@ public class OperationLog {
 	private static final String OPERATION_STATUS = "_operationStatus";
 	private static final String OPERATION_TOOK = "_operationTook";
 	private static final String OPERATION_STARTED = "_operationStarted";
+	private static final String SAMPLE_RATE = "_sampleRate";
+
+	/**
+	 * Maximum number of the span field names to cache, see {@link #SPAN_FIELD_NAMES}.
+	 */
+	private static final int MAX_SPAN_FIELD_NAMES = 1024;
+
+	/**
+	 * Field names of the spans by span name, not to concatenate them on each operation.
+	 */
+	private static final ConcurrentMap<String, String> SPAN_FIELD_NAMES = new ConcurrentHashMap<>();
+
+	/**
+	 * Text of the last <i>_operationStarted</i> field. {@link Date#toString()} has a resolution of seconds, so it is
+	 * formatted once per second.
+	 */
+	private static volatile StartTime lastStartTime = new StartTime(Long.MIN_VALUE, null);
+
+	/**
+	 * Number of the fields added by the operation log itself; name, context id, status, start time, elapsed time and
+	 * sample rate.
+	 */
+	private static final int OWN_FIELD_COUNT = 6;
 
 	/**
-	 * Creation time namely operation start time for the related operation.
+	 * Number of the user fields to reserve space for when no hint is given on {@link GLogger#startOperation(String,
+	 * int)}.
 	 */
-	private long operationStartTime;
+	static final int DEFAULT_EXPECTED_FIELD_COUNT = 8;
+
+	/**
+	 * Start time of the related operation, in nanoseconds of {@link System#nanoTime()}.
+	 */
+	private long operationStartNanos;
+
+	/**
+	 * Unit of the {@link #OPERATION_TOOK} field and the span durations, taken from the configuration when this
+	 * operation log is started.
+	 */
+	private TimeUnit timeUnit;
+
+	/**
+	 * Names and total durations in nanoseconds of the {@link OperationSpan}s of this operation. Durations are kept in
+	 * nanoseconds and converted when the operation completes, so the short spans are not rounded down one by one.
+	 */
+	private String[] spanNames = new String[0];
+	private long[] spanNanos = new long[0];
+	private int spanCount;
+
+	/**
+	 * Incremented each time this operation log is flushed, to ignore the spans of the previous operations of a pooled
+	 * operation log.
+	 */
+	private int generation;
 
 	/**
 	 * Logger to use to print the logs. An external logger is required to use instead of creating a self logger for the
@@ -76,18 +149,76 @@ public class OperationLog {
 	/**
 	 * Log level to use while printing the {@link #succeed()} log.
 	 */
-	private final Level exitLogLevel;
+	private Level exitLogLevel;
 
 	/**
 	 * Holds the fields and values related with this operation.
 	 */
-	private Map<String, Entry<Level, Object>> fields;
+	private OperationFields fields;
+
+	/**
+	 * Name of the operation that is being performed.
+	 */
+	private String operationName;
+
+	/**
+	 * Indicates whether the duration of this operation is recorded into the {@link OperationHistograms}, taken from the
+	 * configuration when this operation log is started.
+	 */
+	private boolean histograms;
+
+	/**
+	 * Indicates whether emitting the log of this operation is timed into the {@link GLoggerMetrics}, taken from the
+	 * configuration when this operation log is started.
+	 */
+	private boolean metrics;
+
+	/**
+	 * Name of the context id field, taken from the configuration when this operation log is started so that a
+	 * configuration reload does not change it in the middle of the operation.
+	 */
+	private String contextFieldName;
+
+	/**
+	 * Context id of this operation, kept to make it the current context of the thread with {@link #openContext()}.
+	 */
+	private String contextId;
+
+	/**
+	 * Sampler of the success log of this operation, {@code null} if it is always logged. Taken from the configuration
+	 * when this operation log is started.
+	 */
+	private OperationSampler sampler;
+
+	/**
+	 * Indicates whether the warn, fail and fatal logs of this operation contain all of its fields, taken from the
+	 * configuration when this operation log is started.
+	 */
+	private boolean tailRetention;
+
+	/**
+	 * Duration in nanoseconds after which the success log of this operation contains all of its fields, 0 if
+	 * disabled. Taken from the configuration when this operation log is started.
+	 */
+	private long tailLatencyNanos;
 
 	/**
 	 * Indicates whether this operation log is completed or not.
 	 */
 	private boolean flushed;
 
+	/**
+	 * Indicates whether this operation log is taken from the {@link OperationLogPool} and must be returned to it once
+	 * flushed.
+	 */
+	boolean pooled;
+
+	/**
+	 * Stack trace of the release to the {@link OperationLogPool}, recorded only when pool debugging is enabled. Any
+	 * usage of a released operation log fails with this stack trace as the cause.
+	 */
+	Throwable releaseSite;
+
 	/**
 	 * Default constructor made package private to prevent the uncontrolled creation of the operation logs.
 	 */
@@ -103,14 +234,56 @@ public class OperationLog {
 	 * @param exitLogLevel  Level to use while printing the exit log.
 	 */
 	OperationLog(String operationName, GLogger logger, Level exitLogLevel) {
+		this(operationName, logger, exitLogLevel, DEFAULT_EXPECTED_FIELD_COUNT);
+	}
+
+	/**
+	 * Creates a new operation log.
+	 *
+	 * @param operationName      Name of the operation that is being performed.
+	 * @param logger             Logger instance to use to print the logs.
+	 * @param exitLogLevel       Level to use while printing the exit log.
+	 * @param expectedFieldCount Expected number of fields to add to the operation log, to size the field storage.
+	 */
+	OperationLog(String operationName, GLogger logger, Level exitLogLevel, int expectedFieldCount) {
+		this.fields = new OperationFields(OWN_FIELD_COUNT + expectedFieldCount);
+		init(operationName, logger, exitLogLevel);
+	}
+
+	/**
+	 * Prepares a flushed operation log taken from the {@link OperationLogPool} for a new operation.
+	 *
+	 * @param operationName      Name of the operation that is being performed.
+	 * @param logger             Logger instance to use to print the logs.
+	 * @param exitLogLevel       Level to use while printing the exit log.
+	 * @param expectedFieldCount Expected number of fields to add to the operation log, to size the field storage.
+	 */
+	void reset(String operationName, GLogger logger, Level exitLogLevel, int expectedFieldCount) {
+		this.flushed = false;
+		this.releaseSite = null;
+		this.fields.ensureCapacity(OWN_FIELD_COUNT + expectedFieldCount);
+		init(operationName, logger, exitLogLevel);
+	}
+
+	private void init(String operationName, GLogger logger, Level exitLogLevel) {
 		this.logger = logger;
 		this.exitLogLevel = exitLogLevel;
 
-		this.fields = new HashMap<>();
-		this.fields.put(OPERATION_NAME, new SimpleEntry<>(INFO, operationName));
-		this.fields.put(GLoggerConfig.getInstance().getLogContextName(),
-				new SimpleEntry<>(INFO, UUID.randomUUID().toString()));
-		this.fields.put(OPERATION_STATUS, new SimpleEntry<>(INFO, "started"));
+		this.operationName = operationName;
+		this.fields.put(OPERATION_NAME, INFO, operationName);
+		GLoggerConfig config = GLoggerConfig.getInstance();
+		this.contextFieldName = config.getLogContextName();
+		this.sampler = config.getOperationSampler(operationName);
+		this.tailRetention = config.isTailRetentionEnabled();
+		this.tailLatencyNanos = this.tailRetention ?
+				TimeUnit.MILLISECONDS.toNanos(config.getTailRetentionLatencyMillis()) : 0;
+		this.timeUnit = config.getOperationTimeUnit();
+		this.histograms = config.isOperationHistogramsEnabled();
+		this.metrics = config.isMetricsEnabled();
+		String current = config.isContextIdPropagationEnabled() ? OperationContext.current() : null;
+		this.contextId = current != null ? current : config.getContextIdGenerator().nextId();
+		this.fields.put(this.contextFieldName, INFO, this.contextId);
+		this.fields.put(OPERATION_STATUS, INFO, "started");
 	}
 
 	/**
@@ -121,8 +294,10 @@ public class OperationLog {
 	 * @return This {@link OperationLog} object to chaining methods.
 	 */
 	OperationLog chain(String contextId) {
+		checkNotReleased();
 		if (contextId != null) {
-			this.fields.put(GLoggerConfig.getInstance().getLogContextName(), new SimpleEntry<>(INFO, contextId));
+			this.contextId = contextId;
+			this.fields.put(this.contextFieldName, INFO, contextId);
 		}
 		return this;
 	}
@@ -130,8 +305,7 @@ public class OperationLog {
 	/**
 	 * Adds the given field to this operation log's fields.
 	 * <br>
-	 * Added fields will be put on a {@link HashMap}, so adding multiple fields with the same name will overwrite the
-	 * previous ones.
+	 * Adding multiple fields with the same name will overwrite the previous ones.
 	 * <br>
 	 * Uses level as {@link Level#INFO}.
 	 *
@@ -146,8 +320,7 @@ public class OperationLog {
 	/**
 	 * Adds the given field to this operation log's fields.
 	 * <br>
-	 * Added fields will be put on a {@link HashMap}, so adding multiple fields with the same name will overwrite the
-	 * previous ones.
+	 * Adding multiple fields with the same name will overwrite the previous ones.
 	 *
 	 * @param name  Name of the field to add.
 	 * @param value Value of the field.
@@ -155,28 +328,317 @@ public class OperationLog {
 	 * @return This {@link OperationLog} object to chaining methods.
 	 */
 	public OperationLog addField(String name, Object value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, value);
+		return this;
+	}
+
+	/**
+	 * Adds the given long field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, long value) {
+		return addField(name, value, INFO);
+	}
+
+	/**
+	 * Adds the given long field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @param level Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, long value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, value);
+		return this;
+	}
+
+	/**
+	 * Adds the given double field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, double value) {
+		return addField(name, value, INFO);
+	}
+
+	/**
+	 * Adds the given double field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @param level Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, double value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, value);
+		return this;
+	}
+
+	/**
+	 * Adds the given float field to this operation log's fields, without boxing its value. Written as a float, e.g. 0.1
+	 * rather than the 0.10000000149011612 of the same value widened to a double.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, float value) {
+		return addField(name, value, INFO);
+	}
+
+	/**
+	 * Adds the given float field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @param level Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, float value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, value);
+		return this;
+	}
+
+	/**
+	 * Adds the given char field to this operation log's fields. Written as a one character string, not as the number
+	 * of the character the long overload would widen it to.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, char value) {
+		return addField(name, value, INFO);
+	}
+
+	/**
+	 * Adds the given char field to this operation log's fields, as a one character string.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @param level Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, char value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, (Object) String.valueOf(value));
+		return this;
+	}
+
+	/**
+	 * Adds the given boolean field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, boolean value) {
+		return addField(name, value, INFO);
+	}
+
+	/**
+	 * Adds the given boolean field to this operation log's fields, without boxing its value.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 *
+	 * @param name  Name of the field to add.
+	 * @param value Value of the field.
+	 * @param level Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, boolean value, Level level) {
+		checkNotReleased();
+		this.fields.put(fieldName(name), level, value);
+		return this;
+	}
+
+	/**
+	 * Adds a field whose value is supplied only if the field is emitted, namely if its level is enabled when the
+	 * operation log is printed, or the log is verbose. Use it for the values that are expensive to build, typically on
+	 * the DEBUG and TRACE levels:
+	 * <pre>
+	 * operation.addField("request", () -&gt; request.describe(), Level.DEBUG);
+	 * </pre>
+	 * The supplier is called at most once, when the operation log is printed, so it sees the state at that time.
+	 * <br>
+	 * Adding multiple fields with the same name will overwrite the previous ones.
+	 * <br>
+	 * Uses level as {@link Level#INFO}.
+	 *
+	 * @param name          Name of the field to add.
+	 * @param valueSupplier Supplier of the value of the field.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, Supplier<?> valueSupplier) {
+		return addField(name, valueSupplier, INFO);
+	}
+
+	/**
+	 * Works exactly like {@link #addField(String, Supplier)} with the given level.
+	 *
+	 * @param name          Name of the field to add.
+	 * @param valueSupplier Supplier of the value of the field.
+	 * @param level         Level of logging which this parameter must be printed.
+	 * @return This {@link OperationLog} object to chaining methods.
+	 */
+	public OperationLog addField(String name, Supplier<?> valueSupplier, Level level) {
+		checkNotReleased();
+		if (valueSupplier == null) {
+			// A null value passed as a literal resolves to this method.
+			this.fields.put(fieldName(name), level, (Object) null);
+		} else {
+			this.fields.put(fieldName(name), level, valueSupplier);
+		}
+		return this;
+	}
+
+	/**
+	 * Prefixes the given field name with an underscore if it is one of the names reserved for the operation log's own
+	 * fields.
+	 *
+	 * @param name Name of the field to add.
+	 * @return Name to store the field with.
+	 */
+	private String fieldName(String name) {
 		if (OPERATION_NAME.equals(name) ||
-				GLoggerConfig.getInstance().getLogContextName().equals(name) ||
+				this.contextFieldName.equals(name) ||
 				OPERATION_TOOK.equals(name) ||
-				OPERATION_STATUS.equals(name)) {
-			name = "_" + name;
+				OPERATION_STATUS.equals(name) ||
+				SAMPLE_RATE.equals(name)) {
+			return "_" + name;
 		}
-		this.fields.put(name, new SimpleEntry<>(level, value));
-		return this;
+		return name;
+	}
+
+	/**
+	 * Starts timing a sub-step of this operation. The duration of the sub-step is added to the log of this operation
+	 * once the returned span is closed, see {@link OperationSpan}.
+	 *
+	 * @param name Name of the sub-step.
+	 * @return Started span, must be closed once the sub-step completes.
+	 */
+	public OperationSpan child(String name) {
+		checkNotReleased();
+		return new OperationSpan(this, this.generation, name);
+	}
+
+	/**
+	 * Adds the duration of a closed span to the span durations of this operation.
+	 *
+	 * @param generation   Generation of this operation log when the span is started.
+	 * @param name         Name of the span.
+	 * @param elapsedNanos Duration of the span in nanoseconds.
+	 */
+	void addSpan(int generation, String name, long elapsedNanos) {
+		if (this.flushed || generation != this.generation) {
+			return;
+		}
+		for (int i = 0; i < this.spanCount; i++) {
+			if (this.spanNames[i].equals(name)) {
+				this.spanNanos[i] += elapsedNanos;
+				return;
+			}
+		}
+		if (this.spanCount == this.spanNames.length) {
+			int capacity = Math.max(this.spanCount * 2, 4);
+			this.spanNames = Arrays.copyOf(this.spanNames, capacity);
+			this.spanNanos = Arrays.copyOf(this.spanNanos, capacity);
+		}
+		this.spanNames[this.spanCount] = name;
+		this.spanNanos[this.spanCount++] = elapsedNanos;
+	}
+
+	/**
+	 * Makes the context id of this operation the current context of the calling thread until the returned scope is
+	 * closed, so the operation logs started within the scope, and the tasks wrapped within it, are chained to this
+	 * operation. Open it with try-with-resources; the scope restores the previous context even if this operation is
+	 * never completed.
+	 * <pre>
+	 * try (OperationContext.Scope scope = operation.openContext()) {
+	 *     // ...
+	 * }
+	 * </pre>
+	 *
+	 * @return Scope restoring the previous context once closed.
+	 * @see OperationContext#open(String)
+	 */
+	public OperationContext.Scope openContext() {
+		checkNotReleased();
+		return OperationContext.open(this.contextId);
 	}
 
 	/**
-	 * Prints the {"operationStarted": "<i>&lt;operationName&gt;</i>"} log.
+	 * Prints the {"operationStarted": "<i>&lt;operationName&gt;</i>"} log. It is logged on TRACE, so it is neither
+	 * built nor timed unless TRACE is enabled.
 	 *
 	 * @return This {@link OperationLog} object to chaining methods.
 	 */
 	OperationLog logStart() {
-		this.logger.trace(getFilteredFields(false));
-		this.operationStartTime = System.currentTimeMillis();
-		this.fields.put(OPERATION_STARTED, new SimpleEntry<>(Level.INFO, new Date().toString()));
+		if (this.logger.isTraceEnabled()) {
+			long emitStartNanos = emitStartNanos();
+			this.logger.trace(getFilteredFields(false));
+			recordEmit(emitStartNanos);
+		}
+		this.operationStartNanos = System.nanoTime();
+		this.fields.put(OPERATION_STARTED, Level.INFO, startTimeText(System.currentTimeMillis()));
 		return this;
 	}
 
+	/**
+	 * Returns the given time as a {@link Date#toString()} text, formatting it only if the second of the last formatted
+	 * time is passed.
+	 *
+	 * @param now Current time in milliseconds.
+	 * @return Text of the given time.
+	 */
+	private static String startTimeText(long now) {
+		long second = Math.floorDiv(now, 1000);
+		StartTime startTime = lastStartTime;
+		if (startTime.second != second) {
+			startTime = new StartTime(second, new Date(now).toString());
+			lastStartTime = startTime;
+		}
+		return startTime.text;
+	}
+
 	/**
 	 * Adds {@link #OPERATION_TOOK} fields to the current filters, prints an INFO log and flushes this operation log.
 	 *
@@ -219,10 +681,23 @@ public class OperationLog {
 	 * @see #succeed()
 	 */
 	public void succeed(Level overrideLevel, boolean verbose) {
+		checkNotReleased();
 		if (!this.flushed) {
-			calculateElapsedTime();
-			this.fields.put(OPERATION_STATUS, new SimpleEntry<>(INFO, "succeeded"));
-			Map<String, Object> fields = getFilteredFields(verbose);
+			long elapsedNanos = calculateElapsedTime();
+			recordHistogram(true, elapsedNanos);
+			boolean slow = this.tailLatencyNanos > 0 && elapsedNanos >= this.tailLatencyNanos;
+			if (this.sampler != null) {
+				// Slow operations are always logged, like the failed ones.
+				if (!slow && !this.sampler.sample()) {
+					// Sampled out, the fields are neither filtered nor serialized.
+					flush();
+					return;
+				}
+				this.fields.put(SAMPLE_RATE, INFO, slow ? 1.0 : this.sampler.getSampleRate());
+			}
+			this.fields.put(OPERATION_STATUS, INFO, "succeeded");
+			long emitStartNanos = emitStartNanos();
+			Map<String, Object> fields = getFilteredFields(verbose || slow);
 			if (TRACE.intLevel() == overrideLevel.intLevel()) {
 				this.logger.trace(fields);
 			} else if (DEBUG.intLevel() == overrideLevel.intLevel()) {
@@ -230,6 +705,7 @@ public class OperationLog {
 			} else {
 				this.logger.info(fields);
 			}
+			recordEmit(emitStartNanos);
 			flush();
 		}
 	}
@@ -274,10 +750,13 @@ public class OperationLog {
 	 *                Default value is {@code false} on {@link #warn()}.
 	 */
 	public void warn(Throwable t, boolean verbose) {
+		checkNotReleased();
 		if (!this.flushed) {
-			calculateElapsedTime();
-			this.fields.put(OPERATION_STATUS, new SimpleEntry<>(INFO, "failed"));
-			this.logger.warn(getFilteredFields(verbose), t);
+			recordHistogram(false, calculateElapsedTime());
+			this.fields.put(OPERATION_STATUS, INFO, "failed");
+			long emitStartNanos = emitStartNanos();
+			this.logger.warn(getFilteredFields(verbose || this.tailRetention), t);
+			recordEmit(emitStartNanos);
 			flush();
 		}
 	}
@@ -324,10 +803,13 @@ public class OperationLog {
 	 * @see #fail()
 	 */
 	public void fail(Throwable t, boolean verbose) {
+		checkNotReleased();
 		if (!this.flushed) {
-			calculateElapsedTime();
-			this.fields.put(OPERATION_STATUS, new SimpleEntry<>(INFO, "failed"));
-			this.logger.error(getFilteredFields(verbose), t);
+			recordHistogram(false, calculateElapsedTime());
+			this.fields.put(OPERATION_STATUS, INFO, "failed");
+			long emitStartNanos = emitStartNanos();
+			this.logger.error(getFilteredFields(verbose || this.tailRetention), t);
+			recordEmit(emitStartNanos);
 			flush();
 		}
 	}
@@ -350,10 +832,13 @@ public class OperationLog {
 	 * @see #fatal()
 	 */
 	public void fatal(boolean verbose) {
+		checkNotReleased();
 		if (!this.flushed) {
-			calculateElapsedTime();
-			this.fields.put(OPERATION_STATUS, new SimpleEntry<>(INFO, "failed"));
-			this.logger.fatal(getFilteredFields(verbose));
+			recordHistogram(false, calculateElapsedTime());
+			this.fields.put(OPERATION_STATUS, INFO, "failed");
+			long emitStartNanos = emitStartNanos();
+			this.logger.fatal(getFilteredFields(verbose || this.tailRetention));
+			recordEmit(emitStartNanos);
 			flush();
 		}
 	}
@@ -364,8 +849,9 @@ public class OperationLog {
 	 * @return Randomly generated context id of the log as String.
 	 */
 	public String getContextId() {
-		Entry<Level, Object> contextObj = this.fields.get(GLoggerConfig.getInstance().getLogContextName());
-		return contextObj != null ? contextObj.getValue().toString() : "";
+		checkNotReleased();
+		Object contextObj = this.fields.get(this.contextFieldName);
+		return contextObj != null ? contextObj.toString() : "";
 	}
 
 	/**
@@ -373,42 +859,106 @@ public class OperationLog {
 	 * the current log level of the application, package, class, etc. it will be filtered out and will not be present on
 	 * the map this method produces. <br> With the {@code verbose} fields, this behaviour can be overridden and all
 	 * fields can be forced to get passed the filter.
+	 * <br>
+	 * The fields are not copied, the returned map is a reusable view filtering them during iteration. See {@link
+	 * OperationFields#view(Level, boolean)}.
 	 *
 	 * @param verbose Puts all of the fields set on the log regardless of the current log level of the application.
-	 * @return A map containing filtered log values and their names.
+	 * @return A map view containing filtered log values and their names.
 	 */
 	private Map<String, Object> getFilteredFields(boolean verbose) {
-		HashMap<String, Object> reducedMap = new HashMap<>();
-		Level currentLevel = this.logger.getLevel();
+		return this.fields.view(this.logger.getLevel(), verbose);
+	}
+
+	/**
+	 * Calculates total amount of time took to complete the operation being logged and adds the {@link #OPERATION_TOOK}
+	 * field, and the fields of the {@link OperationSpan}s, to the fields in the configured time unit.
+	 *
+	 * @return Total amount of nanoseconds took to complete the operation.
+	 * @see #fields
+	 */
+	long calculateElapsedTime() {
+		long elapsedNanos = System.nanoTime() - this.operationStartNanos;
+		this.fields.put(OPERATION_TOOK, INFO, this.timeUnit.convert(elapsedNanos, TimeUnit.NANOSECONDS));
+		for (int i = 0; i < this.spanCount; i++) {
+			this.fields.put(spanFieldName(this.spanNames[i]), INFO,
+					this.timeUnit.convert(this.spanNanos[i], TimeUnit.NANOSECONDS));
+		}
+		return elapsedNanos;
+	}
 
-		this.fields.forEach((fieldEntry, fieldValue) -> {
-			if (verbose || fieldValue.getKey().compareTo(currentLevel) <= 0) {
-				reducedMap.put(fieldEntry, fieldValue.getValue());
+	private static String spanFieldName(String spanName) {
+		String fieldName = SPAN_FIELD_NAMES.get(spanName);
+		if (fieldName == null) {
+			fieldName = OPERATION_TOOK + "." + spanName;
+			if (SPAN_FIELD_NAMES.size() < MAX_SPAN_FIELD_NAMES) {
+				SPAN_FIELD_NAMES.putIfAbsent(spanName, fieldName);
 			}
-		});
+		}
+		return fieldName;
+	}
+
+	/**
+	 * Records the duration of this operation into the {@link OperationHistograms} in the configured time unit, if
+	 * enabled.
+	 *
+	 * @param succeeded    Indicates whether the operation succeeded or failed.
+	 * @param elapsedNanos Duration of the operation in nanoseconds.
+	 */
+	private void recordHistogram(boolean succeeded, long elapsedNanos) {
+		if (this.histograms) {
+			OperationHistograms.record(this.operationName, succeeded,
+					this.timeUnit.convert(elapsedNanos, TimeUnit.NANOSECONDS));
+		}
+	}
 
-		return reducedMap;
+	/**
+	 * @return Current time in nanoseconds if emitting the log is timed, 0 otherwise.
+	 */
+	private long emitStartNanos() {
+		return this.metrics ? System.nanoTime() : 0;
 	}
 
 	/**
-	 * Calculates total amount of milliseconds took to complete the operation being logged and adds the {@link
-	 * #OPERATION_TOOK} field to the fields.
+	 * Records the time spent emitting the log into the {@link GLoggerMetrics}, if enabled.
 	 *
-	 * @see #fields
+	 * @param emitStartNanos Value of {@link #emitStartNanos()} before emitting the log.
 	 */
-	void calculateElapsedTime() {
-		this.fields.put(OPERATION_TOOK, new SimpleEntry<>(INFO, System.currentTimeMillis() - this.operationStartTime));
+	private void recordEmit(long emitStartNanos) {
+		if (this.metrics) {
+			GLoggerMetrics.record(GLoggerMetrics.Timer.OPERATION_LOG_EMIT, System.nanoTime() - emitStartNanos);
+		}
 	}
 
 	/**
 	 * Flushes this operation log by clearing its fields and clearing the reference of its logger. Calling one of {@link
 	 * #succeed()}, {@link #warn()}, {@link #warn(Throwable)}, {@link #fail()}, or {@link #fail(Throwable)} will flush
-	 * the operation log. Once flushed, an operation log class cannot be used again.
+	 * the operation log. Once flushed, an operation log class cannot be used again. If pooling is enabled, the operation
+	 * log is returned to the {@link OperationLogPool}.
 	 */
 	void flush() {
 		this.fields.clear();
 		this.logger = null;
+		this.operationName = null;
+		this.sampler = null;
+		this.contextId = null;
+		Arrays.fill(this.spanNames, 0, this.spanCount, null);
+		this.spanCount = 0;
+		this.generation++;
 		this.flushed = true;
+		OperationLogPool.release(this);
+	}
+
+	/**
+	 * Fails if this operation log is already returned to the {@link OperationLogPool}. Checks only when pool debugging
+	 * is enabled.
+	 *
+	 * @throws IllegalStateException If this operation log is flushed and released to the pool.
+	 */
+	private void checkNotReleased() {
+		if (this.releaseSite != null) {
+			throw new IllegalStateException("OperationLog is used after it is flushed", this.releaseSite);
+		}
 	}
 
 	/**
@@ -417,4 +967,18 @@ public class OperationLog {
 	public boolean isFlushed() {
 		return flushed;
 	}
+
+	/**
+	 * Formatted start time of a second.
+	 */
+	private static final class StartTime {
+
+		private final long second;
+		private final String text;
+
+		private StartTime(long second, String text) {
+			this.second = second;
+			this.text = text;
+		}
+	}
 }
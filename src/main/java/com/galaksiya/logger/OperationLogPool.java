@@ -0,0 +1,93 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.GLoggerConfig;
+import org.apache.logging.log4j.Level;
+
+import java.util.ArrayDeque;
+
+/**
+ * Thread-local pool of the {@link OperationLog} instances. Pooling is disabled by default and can be enabled with the
+ * <i>com.galaksiya.logging.operationLog.pooling</i> configuration. Once enabled, operation logs are returned to the
+ * pool of the thread flushing them, and {@link GLogger#startOperation(String)} reuses them together with their field
+ * storage.
+ * <br>
+ * A pooled operation log must not be used after one of its termination methods is called, since the same instance may
+ * already belong to another operation. The <i>com.galaksiya.logging.operationLog.poolingDebug</i> configuration can be
+ * enabled to detect such usages; released instances are kept in a quarantine before they are reused, and any call on
+ * them throws an {@link IllegalStateException} caused by the stack trace of the release.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class OperationLogPool {
+
+	private static final boolean ENABLED;
+	private static final boolean DEBUG;
+	private static final int MAX_SIZE;
+
+	/**
+	 * Number of the released instances to keep in quarantine before reusing them, when debugging is enabled.
+	 */
+	private static final int QUARANTINE_SIZE = 64;
+
+	static {
+		GLoggerConfig config = GLoggerConfig.getInstance();
+		ENABLED = config.isOperationLogPoolingEnabled();
+		DEBUG = config.isOperationLogPoolingDebugEnabled();
+		MAX_SIZE = config.getOperationLogPoolSize();
+	}
+
+	private static final ThreadLocal<OperationLogPool> POOLS = ThreadLocal.withInitial(OperationLogPool::new);
+
+	/**
+	 * Creates a new operation log, or reuses a released one if pooling is enabled.
+	 *
+	 * @param operationName      Name of the operation that is being performed.
+	 * @param logger             Logger instance to use to print the logs.
+	 * @param exitLogLevel       Level to use while printing the exit log.
+	 * @param expectedFieldCount Expected number of fields to add to the operation log, to size the field storage.
+	 * @return Operation log ready to start.
+	 */
+	static OperationLog acquire(String operationName, GLogger logger, Level exitLogLevel, int expectedFieldCount) {
+		if (!ENABLED) {
+			return new OperationLog(operationName, logger, exitLogLevel, expectedFieldCount);
+		}
+		OperationLog operationLog = POOLS.get().free.pollLast();
+		if (operationLog == null) {
+			operationLog = new OperationLog(operationName, logger, exitLogLevel, expectedFieldCount);
+		} else {
+			operationLog.reset(operationName, logger, exitLogLevel, expectedFieldCount);
+		}
+		operationLog.pooled = true;
+		return operationLog;
+	}
+
+	/**
+	 * Returns the given flushed operation log to the pool of the current thread.
+	 *
+	 * @param operationLog Operation log to release.
+	 */
+	static void release(OperationLog operationLog) {
+		if (!operationLog.pooled) {
+			return;
+		}
+		OperationLogPool pool = POOLS.get();
+		if (DEBUG) {
+			operationLog.releaseSite = new Throwable("OperationLog is flushed and returned to the pool here");
+			pool.quarantine.addLast(operationLog);
+			if (pool.quarantine.size() <= QUARANTINE_SIZE) {
+				return;
+			}
+			operationLog = pool.quarantine.pollFirst();
+		}
+		if (pool.free.size() < MAX_SIZE) {
+			pool.free.addLast(operationLog);
+		}
+	}
+
+	private final ArrayDeque<OperationLog> free = new ArrayDeque<>();
+	private final ArrayDeque<OperationLog> quarantine = new ArrayDeque<>();
+
+	private OperationLogPool() {
+	}
+}
@@ -0,0 +1,63 @@
+package com.galaksiya.logger;
+
+/**
+ * Times a sub-step of an {@link OperationLog}, like a database call or a remote call, and adds its duration to the
+ * single log of the operation as the <i>_operationTook.&lt;name&gt;</i> field, in the unit of <i>_operationTook</i>.
+ * Durations of the spans with the same name are summed, so a step repeated in a loop is reported once. Spans can be
+ * nested with {@link #child(String)}, the names of the nested spans are joined with dots, e.g. <i>db.query</i>.
+ * <br>
+ * An example usage of spans is as follows:
+ * <pre>
+ * OperationLog operation = logger.startOperation("getUser");
+ * try (OperationSpan span = operation.child("db")) {
+ *     // ...
+ * }
+ * operation.succeed(); // {"_operationName": "getUser", "_operationTook": 14, "_operationTook.db": 9, ...}
+ * </pre>
+ * A span closed after its operation log is completed is ignored.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class OperationSpan implements AutoCloseable {
+
+	private final OperationLog operation;
+
+	/**
+	 * Generation of the operation log when this span is started, to ignore this span if the operation log is completed
+	 * and reused from the {@link OperationLogPool} in the meantime.
+	 */
+	private final int generation;
+
+	private final String name;
+	private final long startNanos;
+	private boolean closed;
+
+	OperationSpan(OperationLog operation, int generation, String name) {
+		this.operation = operation;
+		this.generation = generation;
+		this.name = name;
+		this.startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Starts a span nested in this span.
+	 *
+	 * @param name Name of the nested span, joined to the name of this span with a dot.
+	 * @return Started span, must be closed once the sub-step completes.
+	 */
+	public OperationSpan child(String name) {
+		return new OperationSpan(this.operation, this.generation, this.name + "." + name);
+	}
+
+	/**
+	 * Ends this span and adds its duration to the operation log. Calling it again has no effect.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed) {
+			this.closed = true;
+			this.operation.addSpan(this.generation, this.name, System.nanoTime() - this.startNanos);
+		}
+	}
+}
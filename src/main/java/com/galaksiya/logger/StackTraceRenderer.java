@@ -0,0 +1,194 @@
+package com.galaksiya.logger;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders the stack traces of the logged throwables in the format of {@link Throwable#printStackTrace()}, with the
+ * following differences;
+ * <ul>
+ * <li>At most {@link #maxDepth} frames of each throwable are rendered, the rest is written as <i>... N more frames</i>,
+ * </li>
+ * <li>Frames of a cause or a suppressed throwable in common with its enclosing throwable are written as <i>... N common
+ * frames omitted</i>,</li>
+ * <li>A throwable with the same structure, namely the same classes and frames regardless of the messages, as one of
+ * the recently rendered ones is not rendered again for {@link #repeatMillis}; only its first line is written with a
+ * reference to the stack trace id.</li>
+ * </ul>
+ * Each rendering is identified with the structural hash of the stack trace, so the repeated throwables can be matched
+ * with their first rendering. The hashes of the recently rendered stack traces are kept in a bounded LRU cache.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class StackTraceRenderer {
+
+	/**
+	 * Maximum number of the causes to follow, to bound the rendering of the long or cyclic cause chains.
+	 */
+	private static final int MAX_CAUSES = 32;
+
+	private static final String CAUSE_CAPTION = "Caused by: ";
+	private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+	private final int maxDepth;
+	private final long repeatMillis;
+
+	/**
+	 * Hashes of the recently rendered stack traces and the times they are rendered, in access order. {@code null} if
+	 * deduplication is disabled.
+	 */
+	private final Map<Long, Long> rendered;
+
+	/**
+	 * Creates a renderer.
+	 *
+	 * @param maxDepth     Maximum number of frames to render for each throwable.
+	 * @param cacheSize    Maximum number of stack traces to remember, 0 to disable deduplication.
+	 * @param repeatMillis Time to wait before rendering a remembered stack trace again.
+	 */
+	StackTraceRenderer(int maxDepth, int cacheSize, long repeatMillis) {
+		this.maxDepth = Math.max(maxDepth, 1);
+		this.repeatMillis = repeatMillis;
+		this.rendered = cacheSize <= 0 ? null : new LinkedHashMap<Long, Long>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Renders the stack trace of the given throwable, unless the same stack trace is rendered recently.
+	 *
+	 * @param throwable Throwable to render.
+	 * @return Rendered stack trace.
+	 */
+	Rendered render(Throwable throwable) {
+		long hash = hash(throwable);
+		String id = toId(hash);
+		if (this.rendered != null) {
+			long now = System.currentTimeMillis();
+			synchronized (this.rendered) {
+				Long renderedAt = this.rendered.get(hash);
+				if (renderedAt != null && now - renderedAt < this.repeatMillis) {
+					return new Rendered(id, throwable + System.lineSeparator()
+							+ "\t... stack trace " + id + " is logged before", true);
+				}
+				this.rendered.put(hash, now);
+			}
+		}
+		StringBuilder builder = new StringBuilder(1024);
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		append(builder, throwable, throwable.getStackTrace(), new StackTraceElement[0], "", "", visited);
+		return new Rendered(id, builder.toString(), false);
+	}
+
+	/**
+	 * Computes the structural hash of the given throwable and its causes, from their classes and frames.
+	 *
+	 * @param throwable Throwable to compute the hash of.
+	 * @return Structural hash of the given throwable.
+	 */
+	private static long hash(Throwable throwable) {
+		long hash = 1125899906842597L;
+		Throwable current = throwable;
+		for (int i = 0; current != null && i < MAX_CAUSES; i++) {
+			hash = mix(hash, current.getClass().getName().hashCode());
+			for (StackTraceElement element : current.getStackTrace()) {
+				hash = mix(hash, element.hashCode());
+			}
+			current = current.getCause() == current ? null : current.getCause();
+		}
+		// MurmurHash3 finalizer to spread the bits of the similar traces.
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * @param hash Structural hash of a stack trace.
+	 * @return Given hash as a 16 digit hexadecimal string.
+	 */
+	private static String toId(long hash) {
+		String hex = Long.toHexString(hash);
+		return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+	}
+
+	private static long mix(long hash, int value) {
+		return (hash ^ value) * 0x100000001b3L;
+	}
+
+	private void append(StringBuilder builder, Throwable throwable, StackTraceElement[] frames,
+			StackTraceElement[] enclosingFrames, String caption, String prefix, Set<Throwable> visited) {
+		if (!visited.add(throwable) || visited.size() > MAX_CAUSES) {
+			builder.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append(']')
+					.append(System.lineSeparator());
+			return;
+		}
+		builder.append(prefix).append(caption).append(throwable).append(System.lineSeparator());
+
+		int last = frames.length - 1;
+		int enclosingLast = enclosingFrames.length - 1;
+		while (last >= 0 && enclosingLast >= 0 && frames[last].equals(enclosingFrames[enclosingLast])) {
+			last--;
+			enclosingLast--;
+		}
+		int common = frames.length - 1 - last;
+		int unique = last + 1;
+		int rendered = Math.min(unique, this.maxDepth);
+		for (int i = 0; i < rendered; i++) {
+			builder.append(prefix).append("\tat ").append(frames[i]).append(System.lineSeparator());
+		}
+		if (rendered < unique) {
+			builder.append(prefix).append("\t... ").append(unique - rendered).append(" more frames")
+					.append(System.lineSeparator());
+		}
+		if (common > 0) {
+			builder.append(prefix).append("\t... ").append(common).append(" common frames omitted")
+					.append(System.lineSeparator());
+		}
+
+		for (Throwable suppressed : throwable.getSuppressed()) {
+			append(builder, suppressed, suppressed.getStackTrace(), frames, SUPPRESSED_CAPTION, prefix + "\t",
+					visited);
+		}
+		Throwable cause = throwable.getCause();
+		if (cause != null) {
+			append(builder, cause, cause.getStackTrace(), frames, CAUSE_CAPTION, prefix, visited);
+		}
+	}
+
+	/**
+	 * Rendered stack trace.
+	 */
+	static final class Rendered {
+
+		/**
+		 * Structural hash of the stack trace, same for the throwables with the same classes and frames.
+		 */
+		final String id;
+
+		/**
+		 * Rendered stack trace, or only the first line of it if the stack trace is rendered recently.
+		 */
+		final String text;
+
+		/**
+		 * Indicates whether the stack trace is rendered recently, so only the first line is rendered.
+		 */
+		final boolean repeated;
+
+		private Rendered(String id, String text, boolean repeated) {
+			this.id = id;
+			this.text = text;
+			this.repeated = repeated;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Reusable Log4j2 {@link Message} rendering a log message with its parameters through the cached {@link
+ * MessageTemplate}. The message is rendered straight into the buffer of the log event, so neither the formatted string
+ * nor a parameter array is created for the messages with up to three parameters.
+ * <br>
+ * An instance is kept per thread if the Log4j2 thread locals are enabled, see {@link Constants#ENABLE_THREADLOCALS}.
+ * Log4j2 renders the {@link ReusableMessage}s before the log call returns, so the instance is reused on the next call.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class TemplateMessage implements ReusableMessage {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<TemplateMessage> MESSAGES = Constants.ENABLE_THREADLOCALS ?
+			ThreadLocal.withInitial(TemplateMessage::new) : null;
+
+	/**
+	 * Returns a message rendering the given message with the given params, reusing the message of the current thread if
+	 * possible. The returned message must be released once it is logged.
+	 *
+	 * @param message    Log message to format.
+	 * @param params     Parameters to format the given <code>message</code> with.
+	 * @param paramCount Number of the parameters in the given array.
+	 * @return Message to log.
+	 */
+	static TemplateMessage acquire(String message, Object[] params, int paramCount) {
+		return acquire().set(message, params, paramCount);
+	}
+
+	/**
+	 * Works like {@link #acquire(String, Object[], int)} for a single parameter, without a parameter array.
+	 */
+	static TemplateMessage acquire(String message, Object param) {
+		TemplateMessage templateMessage = acquire();
+		templateMessage.inlineParams[0] = param;
+		return templateMessage.set(message, templateMessage.inlineParams, 1);
+	}
+
+	/**
+	 * Works like {@link #acquire(String, Object[], int)} for two parameters, without a parameter array.
+	 */
+	static TemplateMessage acquire(String message, Object param1, Object param2) {
+		TemplateMessage templateMessage = acquire();
+		templateMessage.inlineParams[0] = param1;
+		templateMessage.inlineParams[1] = param2;
+		return templateMessage.set(message, templateMessage.inlineParams, 2);
+	}
+
+	/**
+	 * Works like {@link #acquire(String, Object[], int)} for three parameters, without a parameter array.
+	 */
+	static TemplateMessage acquire(String message, Object param1, Object param2, Object param3) {
+		TemplateMessage templateMessage = acquire();
+		templateMessage.inlineParams[0] = param1;
+		templateMessage.inlineParams[1] = param2;
+		templateMessage.inlineParams[2] = param3;
+		return templateMessage.set(message, templateMessage.inlineParams, 3);
+	}
+
+	private static TemplateMessage acquire() {
+		TemplateMessage templateMessage = MESSAGES == null ? null : MESSAGES.get();
+		if (templateMessage == null || templateMessage.inUse) {
+			// A parameter is logging in its toString method, the message of the thread cannot be shared.
+			templateMessage = new TemplateMessage();
+		}
+		templateMessage.inUse = true;
+		return templateMessage;
+	}
+
+	private final Object[] inlineParams = new Object[3];
+	private String message;
+	private MessageTemplate template;
+	private Object[] params;
+	private int paramCount;
+	private boolean inUse;
+
+	private TemplateMessage() {
+	}
+
+	private TemplateMessage set(String message, Object[] params, int paramCount) {
+		this.message = message;
+		this.template = MessageTemplate.of(message);
+		this.params = params;
+		this.paramCount = paramCount;
+		return this;
+	}
+
+	/**
+	 * Clears the references of this message and makes it available to the next log call of the thread.
+	 */
+	void release() {
+		Arrays.fill(this.inlineParams, null);
+		this.message = null;
+		this.template = null;
+		this.params = null;
+		this.inUse = false;
+	}
+
+	@Override
+	public void formatTo(StringBuilder buffer) {
+		int start = buffer.length();
+		if (!this.template.formatTo(buffer, this.params, this.paramCount)) {
+			buffer.setLength(start);
+			buffer.append(String.format(this.message, Arrays.copyOf(this.params, this.paramCount)));
+		}
+	}
+
+	@Override
+	public String getFormattedMessage() {
+		StringBuilder builder = new StringBuilder(this.message.length() + 16 * this.paramCount);
+		formatTo(builder);
+		return builder.toString();
+	}
+
+	@Override
+	public String getFormat() {
+		return this.message;
+	}
+
+	@Override
+	public Object[] getParameters() {
+		return Arrays.copyOf(this.params, this.paramCount);
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return null;
+	}
+
+	@Override
+	public Object[] swapParameters(Object[] emptyReplacement) {
+		Object[] result = emptyReplacement != null && emptyReplacement.length >= this.paramCount ?
+				emptyReplacement : new Object[this.paramCount];
+		System.arraycopy(this.params, 0, result, 0, this.paramCount);
+		return result;
+	}
+
+	@Override
+	public short getParameterCount() {
+		return (short) this.paramCount;
+	}
+
+	@Override
+	public Message memento() {
+		return new SimpleMessage(getFormattedMessage());
+	}
+
+	@Override
+	public String toString() {
+		return getFormattedMessage();
+	}
+}
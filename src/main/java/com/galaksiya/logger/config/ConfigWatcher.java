@@ -0,0 +1,138 @@
+package com.galaksiya.logger.config;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches the configuration file and reloads the {@link GLoggerConfig} when it changes. The watched file is the one
+ * given with the <i>config.file</i> system property, or the <i>application.conf</i> on the classpath if it is a file on
+ * the disk. The changes are watched by a single daemon thread, so the logging threads are never involved.
+ * <br>
+ * Consecutive changes in a short period, e.g. an editor writing the file in multiple steps, trigger a single reload.
+ * A reload failing to parse the file keeps the current configuration and is reported to the status logger.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+final class ConfigWatcher implements Runnable {
+
+	/**
+	 * Status logger to report the reload failures. {@link com.galaksiya.logger.GLogger} cannot be used for this purpose
+	 * since it depends on the configuration being reloaded.
+	 */
+	private static final Logger STATUS_LOGGER = StatusLogger.getLogger();
+
+	/**
+	 * Time to wait for further changes before reloading the configuration.
+	 */
+	private static final long QUIET_PERIOD_MILLIS = 200;
+
+	/**
+	 * Starts watching the configuration file, if it can be found on the disk.
+	 */
+	static void start() {
+		Path file = findConfigFile();
+		if (file == null || file.getParent() == null) {
+			STATUS_LOGGER.warn("Configuration file is not found on the disk, GLogger configuration will not be "
+					+ "reloaded");
+			return;
+		}
+		try {
+			WatchService watchService = FileSystems.getDefault().newWatchService();
+			file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+			Thread thread = new Thread(new ConfigWatcher(watchService, file.getFileName()), "glogger-config-watcher");
+			thread.setDaemon(true);
+			thread.start();
+		} catch (IOException e) {
+			STATUS_LOGGER.warn("Configuration file {} cannot be watched, GLogger configuration will not be reloaded",
+					file, e);
+		}
+	}
+
+	private static Path findConfigFile() {
+		String configFile = System.getProperty("config.file");
+		if (configFile != null) {
+			return Paths.get(configFile).toAbsolutePath();
+		}
+		if (System.getProperty("config.resource") != null || System.getProperty("config.url") != null) {
+			return null;
+		}
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		URL resource = (classLoader != null ? classLoader : ConfigWatcher.class.getClassLoader())
+				.getResource("application.conf");
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return null;
+		}
+		try {
+			return Paths.get(resource.toURI());
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private final WatchService watchService;
+	private final Path fileName;
+
+	private ConfigWatcher(WatchService watchService, Path fileName) {
+		this.watchService = watchService;
+		this.fileName = fileName;
+	}
+
+	@Override
+	public void run() {
+		try {
+			while (true) {
+				if (isChanged(this.watchService.take())) {
+					// Wait until the file stops changing.
+					WatchKey key;
+					while ((key = this.watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+						isChanged(key);
+					}
+					reload();
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Consumes the events of the given key and resets it.
+	 *
+	 * @param key Signalled watch key.
+	 * @return {@code true} if one of the events is on the configuration file, or some events are lost.
+	 */
+	private boolean isChanged(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			changed |= event.kind() == OVERFLOW || this.fileName.equals(event.context());
+		}
+		key.reset();
+		return changed;
+	}
+
+	private void reload() {
+		try {
+			GLoggerConfig.reload();
+			STATUS_LOGGER.info("GLogger configuration is reloaded");
+		} catch (RuntimeException e) {
+			STATUS_LOGGER.error("GLogger configuration cannot be reloaded, keeping the current configuration", e);
+		}
+	}
+}
@@ -1,8 +1,22 @@
 package com.galaksiya.logger.config;
 
+import com.galaksiya.logger.id.ContextIdGenerator;
+import com.galaksiya.logger.id.ContextIdGenerators;
+import com.galaksiya.logger.sampling.OperationSampler;
+import com.galaksiya.logger.sampling.OperationSamplers;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import com.typesafe.config.ConfigFactory;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Configuration loader class {@link com.galaksiya.logger.GLogger} module. The properties this class loads are as
@@ -10,13 +24,95 @@ import com.typesafe.config.ConfigFactory;
  * <pre>
  * com.galaksiya.logger {
  *     useGcpLogging = boolean
+ *     logContextFieldName = String (default _contextId)
+ *     messagePlaceholders = boolean (default false, formats the {} placeholders of the messages without %)
  *     gcpLogging {
  *         logName = String
+ *         projectId = String
  *         severityLevel = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL])
  *         credentials = String (path of the authentication json file)
+ *         loggingFactory = String (a GcpLoggingFactory class name, default none)
+ *         async = boolean (default true)
+ *         queueCapacity = int (default 8192)
+ *         batchSize = int (default 500)
+ *         lingerMillis = long (default 50)
+ *         maxBatchBytes = long (default 4194304)
+ *         spill {
+ *             path = String (path of the spill file, disabled if not specified)
+ *             maxBytes = long (default 67108864)
+ *         }
+ *         overflow {
+ *             policy = String (one of [WRITE, BLOCK, DROP_NEWEST, DROP_OLDEST, DROP_BELOW_LEVEL], default WRITE)
+ *             blockMillis = long (default 10)
+ *             level = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL], default WARN)
+ *         }
+ *         stackTrace {
+ *             maxDepth = int (default 64, frames per throwable)
+ *             cacheSize = int (default 1024, 0 to disable deduplication)
+ *             repeatMillis = long (default 60000)
+ *         }
+ *     }
+ *     fanOut {
+ *         enabled = boolean (default false, logs to both Log4j2 and GCP if true, see CompositeLoggerAdapter)
+ *         log4j2 {
+ *             level = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL], default TRACE)
+ *             queueCapacity = int (default 0, logs on the calling thread)
+ *         }
+ *         gcp {
+ *             level = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL], default TRACE)
+ *             queueCapacity = int (default 8192, 0 to log on the calling thread)
+ *         }
+ *     }
+ *     log4j2Async {
+ *         enabled = boolean (default false, see Log4j2AsyncMode)
+ *         loggers = [String] (default [com.galaksiya])
+ *         level = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL], default INFO)
+ *         fileName = String (default logs/glogger.json)
+ *         filePattern = String (default logs/glogger-%d{yyyy-MM-dd}-%i.json.gz)
+ *         maxFileSize = String (default 100MB)
+ *         maxFiles = int (default 10, per rollover period)
+ *         ringBufferSize = int (default 262144)
+ *         waitStrategy = String (one of [Block, Timeout, Sleep, Yield, BusySpin], default Sleep)
+ *         queueFullPolicy = String (one of [Default, Discard], default Discard)
+ *         discardThreshold = String (one of [TRACE, DEBUG, INFO, WARN, ERROR, FATAL], default INFO)
+ *     }
+ *     contextId {
+ *         generator = String (one of [random, timeOrdered, counter, uuid] or a ContextIdGenerator class name,
+ *                     default random)
+ *         nodeId = int (between 0 and 65535, random if not specified)
+ *         propagate = boolean (default true, see OperationContext)
+ *     }
+ *     operationLog {
+ *         pooling = boolean (default false)
+ *         poolingDebug = boolean (default false)
+ *         poolSize = int (default 16, per thread)
+ *         timeUnit = String (one of [NANOSECONDS, MICROSECONDS, MILLISECONDS, SECONDS], default MILLISECONDS)
+ *         sampling = [
+ *             { operation = String, rate = double (between 0 and 1) }
+ *             { operation = String, perSecond = double }
+ *         ] (default none, see OperationSamplers)
+ *         tailRetention {
+ *             enabled = boolean (default false)
+ *             latencyMillis = long (default 0, disabled)
+ *         }
+ *         histograms {
+ *             enabled = boolean (default false)
+ *             intervalSeconds = long (default 60)
+ *             maxOperations = int (default 1024)
+ *         }
+ *     }
+ *     metrics {
+ *         enabled = boolean (default true, see GLoggerMetrics)
+ *     }
+ *     reload {
+ *         watch = boolean (default false)
  *     }
  * }
  * </pre>
+ * The configuration is resolved once into an immutable snapshot, so reading a configuration does not look up the
+ * underlying {@link Config}. The snapshot can be replaced with {@link #reload()}, or automatically when the
+ * configuration file changes if <i>reload.watch</i> is enabled. The watched file is the one given with the
+ * <i>config.file</i> system property, or the <i>application.conf</i> on the classpath if it is a file on the disk.
  *
  * @author Berkay Akdal
  * @author Uğur Üntürk
@@ -27,23 +123,85 @@ public class GLoggerConfig {
 
 	private static final String COM_GALAKSIYA_LOGGING = "com.galaksiya.logging";
 	private static final String LOG_CONTEXT_FIELD_NAME = "logContextFieldName";
+	private static final String MESSAGE_PLACEHOLDERS = "messagePlaceholders";
 	private static final String USE_GCP_LOGGING = "useGcpLogging";
+	private static final String GCP_LOGGING_PROJECT_ID = "gcpLogging.projectId";
 	private static final String GCP_LOGGING_SEVERITY_LEVEL = "gcpLogging.severityLevel";
 	private static final String GCP_LOGGING_CREDENTIALS = "gcpLogging.credentials";
+	private static final String GCP_LOGGING_FACTORY = "gcpLogging.loggingFactory";
+	private static final String GCP_LOGGING_ASYNC = "gcpLogging.async";
+	private static final String GCP_LOGGING_QUEUE_CAPACITY = "gcpLogging.queueCapacity";
+	private static final String GCP_LOGGING_BATCH_SIZE = "gcpLogging.batchSize";
+	private static final String GCP_LOGGING_LINGER_MILLIS = "gcpLogging.lingerMillis";
+	private static final String GCP_LOGGING_MAX_BATCH_BYTES = "gcpLogging.maxBatchBytes";
+	private static final String GCP_LOGGING_SPILL_PATH = "gcpLogging.spill.path";
+	private static final String GCP_LOGGING_SPILL_MAX_BYTES = "gcpLogging.spill.maxBytes";
+	private static final String GCP_LOGGING_OVERFLOW_POLICY = "gcpLogging.overflow.policy";
+	private static final String GCP_LOGGING_OVERFLOW_BLOCK_MILLIS = "gcpLogging.overflow.blockMillis";
+	private static final String GCP_LOGGING_OVERFLOW_LEVEL = "gcpLogging.overflow.level";
+	private static final String GCP_LOGGING_STACK_TRACE_MAX_DEPTH = "gcpLogging.stackTrace.maxDepth";
+	private static final String GCP_LOGGING_STACK_TRACE_CACHE_SIZE = "gcpLogging.stackTrace.cacheSize";
+	private static final String GCP_LOGGING_STACK_TRACE_REPEAT_MILLIS = "gcpLogging.stackTrace.repeatMillis";
+	private static final String FAN_OUT_ENABLED = "fanOut.enabled";
+	private static final String FAN_OUT_LOG4J2_LEVEL = "fanOut.log4j2.level";
+	private static final String FAN_OUT_LOG4J2_QUEUE_CAPACITY = "fanOut.log4j2.queueCapacity";
+	private static final String FAN_OUT_GCP_LEVEL = "fanOut.gcp.level";
+	private static final String FAN_OUT_GCP_QUEUE_CAPACITY = "fanOut.gcp.queueCapacity";
+	private static final String LOG4J2_ASYNC_ENABLED = "log4j2Async.enabled";
+	private static final String LOG4J2_ASYNC_LOGGERS = "log4j2Async.loggers";
+	private static final String LOG4J2_ASYNC_LEVEL = "log4j2Async.level";
+	private static final String LOG4J2_ASYNC_FILE_NAME = "log4j2Async.fileName";
+	private static final String LOG4J2_ASYNC_FILE_PATTERN = "log4j2Async.filePattern";
+	private static final String LOG4J2_ASYNC_MAX_FILE_SIZE = "log4j2Async.maxFileSize";
+	private static final String LOG4J2_ASYNC_MAX_FILES = "log4j2Async.maxFiles";
+	private static final String LOG4J2_ASYNC_RING_BUFFER_SIZE = "log4j2Async.ringBufferSize";
+	private static final String LOG4J2_ASYNC_WAIT_STRATEGY = "log4j2Async.waitStrategy";
+	private static final String LOG4J2_ASYNC_QUEUE_FULL_POLICY = "log4j2Async.queueFullPolicy";
+	private static final String LOG4J2_ASYNC_DISCARD_THRESHOLD = "log4j2Async.discardThreshold";
+	private static final String CONTEXT_ID_GENERATOR = "contextId.generator";
+	private static final String CONTEXT_ID_NODE_ID = "contextId.nodeId";
+	private static final String CONTEXT_ID_PROPAGATE = "contextId.propagate";
+	private static final String OPERATION_LOG_POOLING = "operationLog.pooling";
+	private static final String OPERATION_LOG_POOLING_DEBUG = "operationLog.poolingDebug";
+	private static final String OPERATION_LOG_POOL_SIZE = "operationLog.poolSize";
+	private static final String OPERATION_LOG_TIME_UNIT = "operationLog.timeUnit";
+	private static final String OPERATION_LOG_SAMPLING = "operationLog.sampling";
+	private static final String SAMPLING_OPERATION = "operation";
+	private static final String OPERATION_LOG_TAIL_RETENTION_ENABLED = "operationLog.tailRetention.enabled";
+	private static final String OPERATION_LOG_TAIL_RETENTION_LATENCY_MILLIS = "operationLog.tailRetention.latencyMillis";
+	private static final String OPERATION_LOG_HISTOGRAMS_ENABLED = "operationLog.histograms.enabled";
+	private static final String OPERATION_LOG_HISTOGRAMS_INTERVAL_SECONDS = "operationLog.histograms.intervalSeconds";
+	private static final String OPERATION_LOG_HISTOGRAMS_MAX_OPERATIONS = "operationLog.histograms.maxOperations";
+	private static final String METRICS_ENABLED = "metrics.enabled";
+	private static final String RELOAD_WATCH = "reload.watch";
 
 	/**
-	 * Singleton configuration class instance.
+	 * Current configuration snapshot. Snapshots are immutable, a reload replaces the whole snapshot at once.
 	 */
-	private static GLoggerConfig instance;
+	private static final AtomicReference<GLoggerConfig> INSTANCE = new AtomicReference<>();
 
 	/**
-	 * Getter for the singleton {@link GLoggerConfig} instance.
+	 * Getter for the current {@link GLoggerConfig} snapshot. The configuration is loaded on the first call, and the
+	 * configuration file is watched for changes from then on if <i>com.galaksiya.logging.reload.watch</i> is enabled.
+	 * <br>
+	 * The returned snapshot never changes. Callers reading more than one value that must be consistent with each other
+	 * should read them from the same snapshot instead of calling this method for each of them.
+	 * <br>
+	 * Invalid values of the first loaded configuration are reported to the {@link StatusLogger} and replaced with their
+	 * default values, so the getters never throw on the logging path.
 	 */
 	public static GLoggerConfig getInstance() {
+		GLoggerConfig instance = INSTANCE.get();
 		if (instance == null) {
 			synchronized (GLoggerConfig.class) {
+				instance = INSTANCE.get();
 				if (instance == null) {
-					instance = new GLoggerConfig();
+					instance = new GLoggerConfig(ConfigFactory.load(), null);
+					instance.reportErrors();
+					INSTANCE.set(instance);
+					if (instance.reloadWatchEnabled) {
+						ConfigWatcher.start();
+					}
 				}
 			}
 		}
@@ -51,29 +209,259 @@ public class GLoggerConfig {
 	}
 
 	/**
-	 * {@link Config} instance for reading configuration file.
+	 * Loads the configuration again and replaces the current snapshot with it. Log levels and the context field name
+	 * take effect for the subsequent logs; the GCP client, fan-out sinks, message placeholders, operation log pooling,
+	 * histogram interval and reload watching configurations are read only once, changing them requires a restart.
+	 * <br>
+	 * The context id generator and the operation samplers are kept if their configurations are not changed, so the
+	 * generated ids stay unique and the rate limits are not reset.
+	 *
+	 * @return New configuration snapshot.
+	 * @throws ConfigException If the configuration cannot be loaded. The current snapshot is kept in that case.
 	 */
-	private Config config;
+	public static GLoggerConfig reload() {
+		synchronized (GLoggerConfig.class) {
+			ConfigFactory.invalidateCaches();
+			GLoggerConfig instance = new GLoggerConfig(ConfigFactory.load(), INSTANCE.get());
+			if (instance.contextIdGeneratorError != null) {
+				throw instance.contextIdGeneratorError;
+			}
+			if (instance.operationSamplingError != null) {
+				throw instance.operationSamplingError;
+			}
+			if (instance.operationTimeUnitError != null) {
+				throw instance.operationTimeUnitError;
+			}
+			if (instance.gcpOverflowPolicyError != null) {
+				throw instance.gcpOverflowPolicyError;
+			}
+			INSTANCE.set(instance);
+			return instance;
+		}
+	}
 
 	/**
-	 * Default constructor made private to prevent outside access. Use {@link #getInstance()} instead to get the
-	 * singleton instance.
+	 * Reports the invalid values of this configuration, which are replaced with their default values.
 	 */
-	private GLoggerConfig() {
-		config = ConfigFactory.load();
+	private void reportErrors() {
+		for (ConfigException error : new ConfigException[]{contextIdGeneratorError, operationSamplingError,
+				operationTimeUnitError, gcpOverflowPolicyError}) {
+			if (error != null) {
+				StatusLogger.getLogger().error("GLogger configuration is not valid, using the default value: {}",
+						error.getMessage(), error);
+			}
+		}
 	}
 
-	public String getProjectId() {
-		return getGLoggerConfig().getString("gcpLogging.projectId");
+	/**
+	 * Module sub config, empty if the configuration file does not contain it.
+	 */
+	private final Config config;
+
+	private final boolean gcpLoggingEnabled;
+	private final String projectId;
+	private final String gcpSeverityLevel;
+	private final String gcpLoggingCredentialsPath;
+	private final String gcpLoggingFactory;
+	private final boolean gcpAsyncLoggingEnabled;
+	private final int gcpQueueCapacity;
+	private final int gcpBatchSize;
+	private final long gcpLingerMillis;
+	private final long gcpMaxBatchBytes;
+	private final String gcpSpillPath;
+	private final long gcpSpillMaxBytes;
+	private final OverflowPolicy gcpOverflowPolicy;
+	private final ConfigException gcpOverflowPolicyError;
+	private final long gcpOverflowBlockMillis;
+	private final String gcpOverflowLevel;
+	private final int gcpStackTraceMaxDepth;
+	private final int gcpStackTraceCacheSize;
+	private final long gcpStackTraceRepeatMillis;
+	private final boolean fanOutEnabled;
+	private final String fanOutLog4j2Level;
+	private final int fanOutLog4j2QueueCapacity;
+	private final String fanOutGcpLevel;
+	private final int fanOutGcpQueueCapacity;
+	private final boolean log4j2AsyncEnabled;
+	private final List<String> log4j2AsyncLoggers;
+	private final String log4j2AsyncLevel;
+	private final String log4j2AsyncFileName;
+	private final String log4j2AsyncFilePattern;
+	private final String log4j2AsyncMaxFileSize;
+	private final int log4j2AsyncMaxFiles;
+	private final int log4j2AsyncRingBufferSize;
+	private final String log4j2AsyncWaitStrategy;
+	private final String log4j2AsyncQueueFullPolicy;
+	private final String log4j2AsyncDiscardThreshold;
+	private final String contextIdGeneratorName;
+	private final int contextIdNodeId;
+	private final ContextIdGenerator contextIdGenerator;
+	private final ConfigException contextIdGeneratorError;
+	private final boolean contextIdPropagationEnabled;
+	private final boolean operationLogPoolingEnabled;
+	private final boolean operationLogPoolingDebugEnabled;
+	private final int operationLogPoolSize;
+	private final TimeUnit operationTimeUnit;
+	private final ConfigException operationTimeUnitError;
+	private final boolean tailRetentionEnabled;
+	private final long tailRetentionLatencyMillis;
+	private final boolean operationHistogramsEnabled;
+	private final long operationHistogramsIntervalSeconds;
+	private final int operationHistogramsMaxOperations;
+
+	/**
+	 * Settings of the operation samplers by operation name, e.g. <i>perSecond=50.0</i>, to keep the samplers whose
+	 * settings are not changed on reload.
+	 */
+	private final Map<String, String> operationSamplerSettings;
+	private final Map<String, OperationSampler> operationSamplers;
+	private final ConfigException operationSamplingError;
+	private final boolean metricsEnabled;
+	private final boolean reloadWatchEnabled;
+	private final String logContextName;
+	private final boolean messagePlaceholdersEnabled;
+
+	/**
+	 * Resolves all the configurations of the module once. Constructor is made private to prevent outside access, use
+	 * {@link #getInstance()} instead to get the current snapshot.
+	 *
+	 * @param root     Loaded application configuration.
+	 * @param previous Snapshot replaced by this one, {@code null} on the first load.
+	 */
+	private GLoggerConfig(Config root, GLoggerConfig previous) {
+		config = root.hasPath(COM_GALAKSIYA_LOGGING) ? root.getConfig(COM_GALAKSIYA_LOGGING) : ConfigFactory.empty();
+
+		gcpLoggingEnabled = getBoolean(USE_GCP_LOGGING, false);
+		projectId = getString(GCP_LOGGING_PROJECT_ID, null);
+		gcpSeverityLevel = getString(GCP_LOGGING_SEVERITY_LEVEL, null);
+		gcpLoggingCredentialsPath = getString(GCP_LOGGING_CREDENTIALS, null);
+		gcpLoggingFactory = getString(GCP_LOGGING_FACTORY, null);
+		gcpAsyncLoggingEnabled = getBoolean(GCP_LOGGING_ASYNC, true);
+		gcpQueueCapacity = (int) getLong(GCP_LOGGING_QUEUE_CAPACITY, 8192);
+		gcpBatchSize = (int) getLong(GCP_LOGGING_BATCH_SIZE, 500);
+		gcpLingerMillis = getLong(GCP_LOGGING_LINGER_MILLIS, 50);
+		gcpMaxBatchBytes = getLong(GCP_LOGGING_MAX_BATCH_BYTES, 4L * 1024 * 1024);
+		gcpSpillPath = getString(GCP_LOGGING_SPILL_PATH, null);
+		gcpSpillMaxBytes = getLong(GCP_LOGGING_SPILL_MAX_BYTES, 64L * 1024 * 1024);
+		String overflowPolicy = getString(GCP_LOGGING_OVERFLOW_POLICY, OverflowPolicy.WRITE.name());
+		OverflowPolicy policy = OverflowPolicy.WRITE;
+		ConfigException overflowPolicyError = null;
+		try {
+			policy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			overflowPolicyError = new ConfigException.BadValue(COM_GALAKSIYA_LOGGING + "."
+					+ GCP_LOGGING_OVERFLOW_POLICY, "unknown overflow policy: " + overflowPolicy, e);
+		}
+		gcpOverflowPolicy = policy;
+		gcpOverflowPolicyError = overflowPolicyError;
+		gcpOverflowBlockMillis = getLong(GCP_LOGGING_OVERFLOW_BLOCK_MILLIS, 10);
+		gcpOverflowLevel = getString(GCP_LOGGING_OVERFLOW_LEVEL, "WARN");
+		gcpStackTraceMaxDepth = (int) getLong(GCP_LOGGING_STACK_TRACE_MAX_DEPTH, 64);
+		gcpStackTraceCacheSize = (int) getLong(GCP_LOGGING_STACK_TRACE_CACHE_SIZE, 1024);
+		gcpStackTraceRepeatMillis = getLong(GCP_LOGGING_STACK_TRACE_REPEAT_MILLIS, 60000);
+		fanOutEnabled = getBoolean(FAN_OUT_ENABLED, false);
+		fanOutLog4j2Level = getString(FAN_OUT_LOG4J2_LEVEL, "TRACE");
+		fanOutLog4j2QueueCapacity = (int) getLong(FAN_OUT_LOG4J2_QUEUE_CAPACITY, 0);
+		fanOutGcpLevel = getString(FAN_OUT_GCP_LEVEL, "TRACE");
+		fanOutGcpQueueCapacity = (int) getLong(FAN_OUT_GCP_QUEUE_CAPACITY, 8192);
+		log4j2AsyncEnabled = getBoolean(LOG4J2_ASYNC_ENABLED, false);
+		log4j2AsyncLoggers = getStringList(LOG4J2_ASYNC_LOGGERS, Collections.singletonList("com.galaksiya"));
+		log4j2AsyncLevel = getString(LOG4J2_ASYNC_LEVEL, "INFO");
+		log4j2AsyncFileName = getString(LOG4J2_ASYNC_FILE_NAME, "logs/glogger.json");
+		log4j2AsyncFilePattern = getString(LOG4J2_ASYNC_FILE_PATTERN, "logs/glogger-%d{yyyy-MM-dd}-%i.json.gz");
+		log4j2AsyncMaxFileSize = getString(LOG4J2_ASYNC_MAX_FILE_SIZE, "100MB");
+		log4j2AsyncMaxFiles = (int) getLong(LOG4J2_ASYNC_MAX_FILES, 10);
+		log4j2AsyncRingBufferSize = (int) getLong(LOG4J2_ASYNC_RING_BUFFER_SIZE, 262144);
+		log4j2AsyncWaitStrategy = getString(LOG4J2_ASYNC_WAIT_STRATEGY, "Sleep");
+		log4j2AsyncQueueFullPolicy = getString(LOG4J2_ASYNC_QUEUE_FULL_POLICY, "Discard");
+		log4j2AsyncDiscardThreshold = getString(LOG4J2_ASYNC_DISCARD_THRESHOLD, "INFO");
+		operationLogPoolingEnabled = getBoolean(OPERATION_LOG_POOLING, false);
+		operationLogPoolingDebugEnabled = getBoolean(OPERATION_LOG_POOLING_DEBUG, false);
+		operationLogPoolSize = (int) getLong(OPERATION_LOG_POOL_SIZE, 16);
+		String timeUnit = getString(OPERATION_LOG_TIME_UNIT, TimeUnit.MILLISECONDS.name());
+		TimeUnit unit = TimeUnit.MILLISECONDS;
+		ConfigException timeUnitError = null;
+		try {
+			unit = TimeUnit.valueOf(timeUnit.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			timeUnitError = new ConfigException.BadValue(COM_GALAKSIYA_LOGGING + "." + OPERATION_LOG_TIME_UNIT,
+					"unknown time unit: " + timeUnit, e);
+		}
+		operationTimeUnit = unit;
+		operationTimeUnitError = timeUnitError;
+		tailRetentionEnabled = getBoolean(OPERATION_LOG_TAIL_RETENTION_ENABLED, false);
+		tailRetentionLatencyMillis = getLong(OPERATION_LOG_TAIL_RETENTION_LATENCY_MILLIS, 0);
+		operationHistogramsEnabled = getBoolean(OPERATION_LOG_HISTOGRAMS_ENABLED, false);
+		operationHistogramsIntervalSeconds = getLong(OPERATION_LOG_HISTOGRAMS_INTERVAL_SECONDS, 60);
+		operationHistogramsMaxOperations = (int) getLong(OPERATION_LOG_HISTOGRAMS_MAX_OPERATIONS, 1024);
+		metricsEnabled = getBoolean(METRICS_ENABLED, true);
+		reloadWatchEnabled = getBoolean(RELOAD_WATCH, false);
+		logContextName = getString(LOG_CONTEXT_FIELD_NAME, "_contextId");
+		messagePlaceholdersEnabled = getBoolean(MESSAGE_PLACEHOLDERS, false);
+
+		contextIdGeneratorName = getString(CONTEXT_ID_GENERATOR, ContextIdGenerators.RANDOM);
+		contextIdNodeId = (int) getLong(CONTEXT_ID_NODE_ID, -1);
+		contextIdPropagationEnabled = getBoolean(CONTEXT_ID_PROPAGATE, true);
+		ContextIdGenerator generator = null;
+		ConfigException error = null;
+		if (previous != null && previous.contextIdGenerator != null
+				&& previous.contextIdGeneratorName.equals(contextIdGeneratorName)
+				&& previous.contextIdNodeId == contextIdNodeId) {
+			generator = previous.contextIdGenerator;
+		} else {
+			try {
+				generator = ContextIdGenerators.create(contextIdGeneratorName, contextIdNodeId);
+			} catch (IllegalArgumentException e) {
+				error = new ConfigException.BadValue(COM_GALAKSIYA_LOGGING + "." + CONTEXT_ID_GENERATOR,
+						e.getMessage(), e);
+				generator = ContextIdGenerators.create(ContextIdGenerators.RANDOM, -1);
+			}
+		}
+		contextIdGenerator = generator;
+		contextIdGeneratorError = error;
+
+		Map<String, String> samplerSettings = new HashMap<>();
+		Map<String, OperationSampler> samplers = new HashMap<>();
+		error = null;
+		try {
+			if (config.hasPath(OPERATION_LOG_SAMPLING)) {
+				for (Config sampling : config.getConfigList(OPERATION_LOG_SAMPLING)) {
+					String operation = sampling.getString(SAMPLING_OPERATION);
+					String strategy = sampling.hasPath(OperationSamplers.RATE) ? OperationSamplers.RATE :
+							OperationSamplers.PER_SECOND;
+					double value = sampling.getDouble(strategy);
+					String settings = strategy + "=" + value;
+					OperationSampler sampler = previous == null ? null : previous.operationSamplers.get(operation);
+					if (sampler == null || !settings.equals(previous.operationSamplerSettings.get(operation))) {
+						sampler = OperationSamplers.create(strategy, value);
+					}
+					samplerSettings.put(operation, settings);
+					samplers.put(operation, sampler);
+				}
+			}
+		} catch (ConfigException e) {
+			error = e;
+		} catch (IllegalArgumentException e) {
+			error = new ConfigException.BadValue(COM_GALAKSIYA_LOGGING + "." + OPERATION_LOG_SAMPLING,
+					e.getMessage(), e);
+		}
+		if (error != null) {
+			samplerSettings.clear();
+			samplers.clear();
+		}
+		operationSamplerSettings = samplerSettings;
+		operationSamplers = Collections.unmodifiableMap(samplers);
+		operationSamplingError = error;
 	}
 
 	/**
-	 * Getter for the module sub config in the configuration file.
+	 * Getter for the GCP project id configuration.
 	 *
-	 * @return com.galaksiya.logging sub-config.
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.projectId</i> configuration.
+	 * @throws ConfigException.Missing If the configuration is not found.
 	 */
-	private Config getGLoggerConfig() {
-		return this.config.getConfig(COM_GALAKSIYA_LOGGING);
+	public String getProjectId() {
+		return require(this.projectId, GCP_LOGGING_PROJECT_ID);
 	}
 
 	/**
@@ -82,30 +470,514 @@ public class GLoggerConfig {
 	 * @return The value of com.galaksiya.logging.useGcpLogging specified in configuration file.
 	 */
 	public boolean isGcpLoggingEnabled() {
-		boolean isEnabled = false;
-		try {
-			isEnabled = getGLoggerConfig().getBoolean(USE_GCP_LOGGING);
-		} catch (ConfigException ignored) {
-		}
-		return isEnabled;
+		return this.gcpLoggingEnabled;
 	}
 
 	/**
 	 * Getter for the GCP log severity level configuration.
 	 *
 	 * @return The value of com.galaksiya.logging.gcpLogging.severityLevel specified in configuration file.
+	 * @throws ConfigException.Missing If the configuration is not found.
 	 */
 	public String getGcpSeverityLevel() {
-		return getGLoggerConfig().getString(GCP_LOGGING_SEVERITY_LEVEL);
+		return require(this.gcpSeverityLevel, GCP_LOGGING_SEVERITY_LEVEL);
 	}
 
 	/**
 	 * Getter for the GCP log credentials path configuration.
 	 *
 	 * @return The value of <i>com.galaksiya.logging.gcpLogging.credentials</i> configuration.
+	 * @throws ConfigException.Missing If the configuration is not found.
 	 */
 	public String getGcpLoggingCredentialsPath() {
-		return getGLoggerConfig().getString(GCP_LOGGING_CREDENTIALS);
+		return require(this.gcpLoggingCredentialsPath, GCP_LOGGING_CREDENTIALS);
+	}
+
+	/**
+	 * Getter for the class name of the GcpLoggingFactory creating the Cloud Logging service. If not found, returns
+	 * null as default value and the service is created with the configured credentials.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.loggingFactory</i> configuration.
+	 */
+	public String getGcpLoggingFactory() {
+		return this.gcpLoggingFactory;
+	}
+
+	/**
+	 * Getter for the GCP asynchronous logging indicator configuration. If not found, returns true as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.async</i> configuration.
+	 */
+	public boolean isGcpAsyncLoggingEnabled() {
+		return this.gcpAsyncLoggingEnabled;
+	}
+
+	/**
+	 * Getter for the maximum number of GCP log entries waiting to be written. If not found, returns 8192 as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.queueCapacity</i> configuration.
+	 */
+	public int getGcpQueueCapacity() {
+		return this.gcpQueueCapacity;
+	}
+
+	/**
+	 * Getter for the maximum number of GCP log entries to send with a single write call. If not found, returns 500 as
+	 * default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.batchSize</i> configuration.
+	 */
+	public int getGcpBatchSize() {
+		return this.gcpBatchSize;
+	}
+
+	/**
+	 * Getter for the maximum time to wait for a GCP write batch to fill up. If not found, returns 50 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.lingerMillis</i> configuration.
+	 */
+	public long getGcpLingerMillis() {
+		return this.gcpLingerMillis;
+	}
+
+	/**
+	 * Getter for the maximum approximate size of a GCP write batch in bytes. If not found, returns 4 MiB as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.maxBatchBytes</i> configuration.
+	 */
+	public long getGcpMaxBatchBytes() {
+		return this.gcpMaxBatchBytes;
+	}
+
+	/**
+	 * Getter for the path of the GCP spill file, keeping the entries that cannot be written while Cloud Logging is slow
+	 * or failing. If not found, returns null as default value and the spill file is not used.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.spill.path</i> configuration.
+	 */
+	public String getGcpSpillPath() {
+		return this.gcpSpillPath;
+	}
+
+	/**
+	 * Getter for the maximum size of the GCP spill file in bytes. If not found, returns 64 MiB as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.spill.maxBytes</i> configuration.
+	 */
+	public long getGcpSpillMaxBytes() {
+		return this.gcpSpillMaxBytes;
+	}
+
+	/**
+	 * Getter for the policy of the GCP writer when its queue is full. If not found, returns {@link
+	 * OverflowPolicy#WRITE} as default value, also if the configured value is not an {@link OverflowPolicy}.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.overflow.policy</i> configuration.
+	 */
+	public OverflowPolicy getGcpOverflowPolicy() {
+		return this.gcpOverflowPolicy;
+	}
+
+	/**
+	 * Getter for the maximum time to wait for room in the GCP writer queue with the {@link OverflowPolicy#BLOCK}
+	 * policy. If not found, returns 10 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.overflow.blockMillis</i> configuration.
+	 */
+	public long getGcpOverflowBlockMillis() {
+		return this.gcpOverflowBlockMillis;
+	}
+
+	/**
+	 * Getter for the level below which the entries are dropped with the {@link OverflowPolicy#DROP_BELOW_LEVEL} policy.
+	 * If not found, returns WARN as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.overflow.level</i> configuration.
+	 */
+	public String getGcpOverflowLevel() {
+		return this.gcpOverflowLevel;
+	}
+
+	/**
+	 * Getter for the maximum number of frames to render for each throwable in the GCP logs. If not found, returns 64 as
+	 * default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.stackTrace.maxDepth</i> configuration.
+	 */
+	public int getGcpStackTraceMaxDepth() {
+		return this.gcpStackTraceMaxDepth;
+	}
+
+	/**
+	 * Getter for the maximum number of recently rendered stack traces to remember, not to render them again in the GCP
+	 * logs. If not found, returns 1024 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.stackTrace.cacheSize</i> configuration.
+	 */
+	public int getGcpStackTraceCacheSize() {
+		return this.gcpStackTraceCacheSize;
+	}
+
+	/**
+	 * Getter for the time to wait before rendering a remembered stack trace again in the GCP logs. If not found,
+	 * returns 60000 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.gcpLogging.stackTrace.repeatMillis</i> configuration.
+	 */
+	public long getGcpStackTraceRepeatMillis() {
+		return this.gcpStackTraceRepeatMillis;
+	}
+
+	/**
+	 * Getter for the fan-out logging indicator configuration, to log both to Log4j2 and GCP. If not found, returns
+	 * false as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.fanOut.enabled</i> configuration.
+	 */
+	public boolean isFanOutEnabled() {
+		return this.fanOutEnabled;
+	}
+
+	/**
+	 * Getter for the level threshold of the Log4j2 sink of the fan-out logging. If not found, returns TRACE as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.fanOut.log4j2.level</i> configuration.
+	 */
+	public String getFanOutLog4j2Level() {
+		return this.fanOutLog4j2Level;
+	}
+
+	/**
+	 * Getter for the maximum number of entries waiting to be logged by the Log4j2 sink of the fan-out logging, zero to
+	 * log on the calling thread. If not found, returns 0 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.fanOut.log4j2.queueCapacity</i> configuration.
+	 */
+	public int getFanOutLog4j2QueueCapacity() {
+		return this.fanOutLog4j2QueueCapacity;
+	}
+
+	/**
+	 * Getter for the level threshold of the GCP sink of the fan-out logging. If not found, returns TRACE as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.fanOut.gcp.level</i> configuration.
+	 */
+	public String getFanOutGcpLevel() {
+		return this.fanOutGcpLevel;
+	}
+
+	/**
+	 * Getter for the maximum number of entries waiting to be logged by the GCP sink of the fan-out logging. If not
+	 * found, returns 8192 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.fanOut.gcp.queueCapacity</i> configuration.
+	 */
+	public int getFanOutGcpQueueCapacity() {
+		return this.fanOutGcpQueueCapacity;
+	}
+
+	/**
+	 * Getter for the asynchronous Log4j2 mode indicator configuration, to log the configured loggers through the
+	 * Disruptor backed asynchronous loggers of Log4j2. If not found, returns false as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.enabled</i> configuration.
+	 */
+	public boolean isLog4j2AsyncEnabled() {
+		return this.log4j2AsyncEnabled;
+	}
+
+	/**
+	 * Getter for the names of the Log4j2 loggers made asynchronous by the asynchronous Log4j2 mode. The loggers already
+	 * in the Log4j2 configuration are left as they are. If not found, returns [com.galaksiya] as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.loggers</i> configuration.
+	 */
+	public List<String> getLog4j2AsyncLoggers() {
+		return this.log4j2AsyncLoggers;
+	}
+
+	/**
+	 * Getter for the level of the asynchronous loggers of the asynchronous Log4j2 mode. If not found, returns INFO as
+	 * default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.level</i> configuration.
+	 */
+	public String getLog4j2AsyncLevel() {
+		return this.log4j2AsyncLevel;
+	}
+
+	/**
+	 * Getter for the path of the JSON log file of the asynchronous Log4j2 mode. If not found, returns
+	 * logs/glogger.json as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.fileName</i> configuration.
+	 */
+	public String getLog4j2AsyncFileName() {
+		return this.log4j2AsyncFileName;
+	}
+
+	/**
+	 * Getter for the path pattern of the rolled over JSON log files of the asynchronous Log4j2 mode. If not found,
+	 * returns logs/glogger-%d{yyyy-MM-dd}-%i.json.gz as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.filePattern</i> configuration.
+	 */
+	public String getLog4j2AsyncFilePattern() {
+		return this.log4j2AsyncFilePattern;
+	}
+
+	/**
+	 * Getter for the size of the JSON log file to roll it over at, in the Log4j2 file size format. If not found,
+	 * returns 100MB as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.maxFileSize</i> configuration.
+	 */
+	public String getLog4j2AsyncMaxFileSize() {
+		return this.log4j2AsyncMaxFileSize;
+	}
+
+	/**
+	 * Getter for the maximum number of the rolled over JSON log files to keep per rollover period. If not found,
+	 * returns 10 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.maxFiles</i> configuration.
+	 */
+	public int getLog4j2AsyncMaxFiles() {
+		return this.log4j2AsyncMaxFiles;
+	}
+
+	/**
+	 * Getter for the ring buffer size of the asynchronous loggers, rounded up to a power of two by Log4j2. If not
+	 * found, returns 262144 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.ringBufferSize</i> configuration.
+	 */
+	public int getLog4j2AsyncRingBufferSize() {
+		return this.log4j2AsyncRingBufferSize;
+	}
+
+	/**
+	 * Getter for the wait strategy of the asynchronous logger thread. If not found, returns Sleep as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.waitStrategy</i> configuration.
+	 */
+	public String getLog4j2AsyncWaitStrategy() {
+		return this.log4j2AsyncWaitStrategy;
+	}
+
+	/**
+	 * Getter for the policy of the asynchronous loggers when the ring buffer is full. If not found, returns Discard as
+	 * default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.queueFullPolicy</i> configuration.
+	 */
+	public String getLog4j2AsyncQueueFullPolicy() {
+		return this.log4j2AsyncQueueFullPolicy;
+	}
+
+	/**
+	 * Getter for the level at and below which the events are discarded when the ring buffer is full, with the Discard
+	 * queue full policy. If not found, returns INFO as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.log4j2Async.discardThreshold</i> configuration.
+	 */
+	public String getLog4j2AsyncDiscardThreshold() {
+		return this.log4j2AsyncDiscardThreshold;
+	}
+
+	/**
+	 * Getter for the context id generator configured with <i>com.galaksiya.logging.contextId.generator</i> and
+	 * <i>com.galaksiya.logging.contextId.nodeId</i> configurations. The generator is created once and reused across
+	 * the reloads which do not change its configuration. If the configured generator cannot be created, a random
+	 * generator is used.
+	 *
+	 * @return Configured context id generator.
+	 */
+	public ContextIdGenerator getContextIdGenerator() {
+		return this.contextIdGenerator;
+	}
+
+	/**
+	 * Getter for the context id propagation indicator configuration. If enabled, the operation logs started without a
+	 * context id are chained to the current context of their thread, opened with {@link
+	 * com.galaksiya.logger.OperationContext#open(String)} or {@link com.galaksiya.logger.OperationLog#openContext()},
+	 * or carried by a wrapped task. If not found, returns true as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.contextId.propagate</i> configuration.
+	 */
+	public boolean isContextIdPropagationEnabled() {
+		return this.contextIdPropagationEnabled;
+	}
+
+	/**
+	 * Getter for the operation log pooling indicator configuration. If not found, returns false as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.pooling</i> configuration.
+	 */
+	public boolean isOperationLogPoolingEnabled() {
+		return this.operationLogPoolingEnabled;
+	}
+
+	/**
+	 * Getter for the operation log pool debugging indicator configuration. If not found, returns false as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.poolingDebug</i> configuration.
+	 */
+	public boolean isOperationLogPoolingDebugEnabled() {
+		return this.operationLogPoolingDebugEnabled;
+	}
+
+	/**
+	 * Getter for the maximum number of pooled operation logs per thread. If not found, returns 16 as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.poolSize</i> configuration.
+	 */
+	public int getOperationLogPoolSize() {
+		return this.operationLogPoolSize;
+	}
+
+	/**
+	 * Getter for the unit of the operation log durations, <i>_operationTook</i> and the durations of the child spans.
+	 * If not found, returns {@link TimeUnit#MILLISECONDS} as default value, also if the configured value is not a
+	 * {@link TimeUnit}.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.timeUnit</i> configuration.
+	 */
+	public TimeUnit getOperationTimeUnit() {
+		return this.operationTimeUnit;
+	}
+
+	/**
+	 * Getter for the tail retention indicator configuration. If enabled, the warn, fail and fatal logs of the operation
+	 * logs contain all of their fields regardless of the current log level. If not found, returns false as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.tailRetention.enabled</i> configuration.
+	 */
+	public boolean isTailRetentionEnabled() {
+		return this.tailRetentionEnabled;
+	}
+
+	/**
+	 * Getter for the duration of an operation after which its success log contains all of its fields regardless of the
+	 * current log level, if tail retention is enabled. If not found, returns 0 as default value, namely disabled.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.tailRetention.latencyMillis</i> configuration.
+	 */
+	public long getTailRetentionLatencyMillis() {
+		return this.tailRetentionLatencyMillis;
+	}
+
+	/**
+	 * Getter for the operation latency histograms indicator configuration. If not found, returns false as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.histograms.enabled</i> configuration.
+	 */
+	public boolean isOperationHistogramsEnabled() {
+		return this.operationHistogramsEnabled;
+	}
+
+	/**
+	 * Getter for the interval to log the operation latency histogram summaries on. If not found, returns 60 as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.histograms.intervalSeconds</i> configuration.
+	 */
+	public long getOperationHistogramsIntervalSeconds() {
+		return this.operationHistogramsIntervalSeconds;
+	}
+
+	/**
+	 * Getter for the maximum number of operation names to keep latency histograms of. If not found, returns 1024 as
+	 * default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.operationLog.histograms.maxOperations</i> configuration.
+	 */
+	public int getOperationHistogramsMaxOperations() {
+		return this.operationHistogramsMaxOperations;
+	}
+
+	/**
+	 * Getter for the sampler of the success logs of the given operation, configured with the
+	 * <i>com.galaksiya.logging.operationLog.sampling</i> configuration. The samplers are created once and reused across
+	 * the reloads which do not change their configuration. If the sampling configuration is not valid, all the logs
+	 * are kept.
+	 *
+	 * @param operationName Name of the operation.
+	 * @return Sampler of the given operation, or {@code null} if all of its logs are kept.
+	 */
+	public OperationSampler getOperationSampler(String operationName) {
+		return this.operationSamplers.isEmpty() ? null : this.operationSamplers.get(operationName);
+	}
+
+	/**
+	 * Reads a string configuration from the module sub config.
+	 *
+	 * @param path         Path of the configuration relative to <i>com.galaksiya.logging</i>.
+	 * @param defaultValue Value to return if the configuration is not found.
+	 * @return Configured value or the given default value.
+	 */
+	private String getString(String path, String defaultValue) {
+		String value = defaultValue;
+		try {
+			value = this.config.getString(path);
+		} catch (ConfigException ignored) {
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a boolean configuration from the module sub config.
+	 *
+	 * @param path         Path of the configuration relative to <i>com.galaksiya.logging</i>.
+	 * @param defaultValue Value to return if the configuration is not found.
+	 * @return Configured value or the given default value.
+	 */
+	private boolean getBoolean(String path, boolean defaultValue) {
+		boolean value = defaultValue;
+		try {
+			value = this.config.getBoolean(path);
+		} catch (ConfigException ignored) {
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a string list configuration from the module sub config.
+	 *
+	 * @param path         Path of the configuration relative to <i>com.galaksiya.logging</i>.
+	 * @param defaultValue Value to return if the configuration is not found.
+	 * @return Unmodifiable configured value or the given default value.
+	 */
+	private List<String> getStringList(String path, List<String> defaultValue) {
+		List<String> value = defaultValue;
+		try {
+			value = Collections.unmodifiableList(new ArrayList<>(this.config.getStringList(path)));
+		} catch (ConfigException ignored) {
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a numeric configuration from the module sub config.
+	 *
+	 * @param path         Path of the configuration relative to <i>com.galaksiya.logging</i>.
+	 * @param defaultValue Value to return if the configuration is not found.
+	 * @return Configured value or the given default value.
+	 */
+	private long getLong(String path, long defaultValue) {
+		long value = defaultValue;
+		try {
+			value = this.config.getLong(path);
+		} catch (ConfigException ignored) {
+		}
+		return value;
 	}
 
 	/**
@@ -114,12 +986,50 @@ public class GLoggerConfig {
 	 * @return The value of <i>com.galaksiya.logging.logContextFieldName</i> configuration.
 	 */
 	public String getLogContextName() {
-		String config;
-		try {
-			config = getGLoggerConfig().getString(LOG_CONTEXT_FIELD_NAME);
-		} catch (Throwable t) {
-			config = "_contextId";
+		return this.logContextName;
+	}
+
+	/**
+	 * Getter for the message placeholders indicator configuration, to format the <i>{}</i> placeholders of the log
+	 * messages which do not contain any <i>%</i> character. If not found, returns false as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.messagePlaceholders</i> configuration.
+	 */
+	public boolean isMessagePlaceholdersEnabled() {
+		return this.messagePlaceholdersEnabled;
+	}
+
+	/**
+	 * Getter for the self-instrumentation metrics indicator configuration. If not found, returns true as default
+	 * value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.metrics.enabled</i> configuration.
+	 */
+	public boolean isMetricsEnabled() {
+		return this.metricsEnabled;
+	}
+
+	/**
+	 * Getter for the configuration file watching indicator. If not found, returns false as default value.
+	 *
+	 * @return The value of <i>com.galaksiya.logging.reload.watch</i> configuration.
+	 */
+	public boolean isReloadWatchEnabled() {
+		return this.reloadWatchEnabled;
+	}
+
+	/**
+	 * Returns the given value of a configuration without default value.
+	 *
+	 * @param value Resolved value of the configuration, {@code null} if not found.
+	 * @param path  Path of the configuration relative to <i>com.galaksiya.logging</i>.
+	 * @return The given value.
+	 * @throws ConfigException.Missing If the value is {@code null}.
+	 */
+	private static String require(String value, String path) {
+		if (value == null) {
+			throw new ConfigException.Missing(COM_GALAKSIYA_LOGGING + "." + path);
 		}
-		return config;
+		return value;
 	}
 }
@@ -0,0 +1,43 @@
+package com.galaksiya.logger.config;
+
+/**
+ * Policy of the asynchronous GCP writer when the log entries arrive faster than they can be written, namely when
+ * neither its queue nor its spill file has room for an entry. Configured with the
+ * <i>com.galaksiya.logging.gcpLogging.overflow.policy</i> configuration.
+ * <br>
+ * Dropped entries are counted per severity, and a WARNING entry with the counts of the entries dropped since the
+ * previous one is written once the queue is at most half full again.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Writes the entry on the calling thread, blocking it until Cloud Logging responds. Nothing is dropped.
+	 */
+	WRITE,
+
+	/**
+	 * Waits for room in the queue up to <i>com.galaksiya.logging.gcpLogging.overflow.blockMillis</i>, and drops the
+	 * entry if there is still no room.
+	 */
+	BLOCK,
+
+	/**
+	 * Drops the entry.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * Drops the oldest queued entry to make room for the entry.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Drops the entry if its level is below <i>com.galaksiya.logging.gcpLogging.overflow.level</i>. Otherwise, puts
+	 * the entry on a second queue of a tenth of the queue capacity reserved for such entries, and drops it only if
+	 * that is full as well. Never waits.
+	 */
+	DROP_BELOW_LEVEL
+}
@@ -0,0 +1,23 @@
+package com.galaksiya.logger.id;
+
+/**
+ * Generator of the context ids of the {@link com.galaksiya.logger.OperationLog}s. The generator to use is selected
+ * with the <i>com.galaksiya.logging.contextId.generator</i> configuration, either by the name of one of the built-in
+ * strategies or by the fully qualified name of an implementation of this interface with a public no-arg constructor.
+ * <br>
+ * Implementations are called on each operation start from any thread, so they must be thread-safe and must not
+ * block.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @see ContextIdGenerators
+ * @since 2.2.0
+ */
+public interface ContextIdGenerator {
+
+	/**
+	 * Generates a new context id.
+	 *
+	 * @return Generated context id.
+	 */
+	String nextId();
+}
@@ -0,0 +1,89 @@
+package com.galaksiya.logger.id;
+
+import java.security.SecureRandom;
+
+/**
+ * Built-in {@link ContextIdGenerator} strategies;
+ * <ul>
+ * <li><i>random</i> (default): random UUID strings from a thread-local generator, see {@link
+ * RandomContextIdGenerator},</li>
+ * <li><i>timeOrdered</i>: ULID strings sortable by their creation time, see {@link TimeOrderedContextIdGenerator},</li>
+ * <li><i>counter</i>: a node and start time prefix followed by a counter, see {@link CounterContextIdGenerator},</li>
+ * <li><i>uuid</i>: {@link java.util.UUID#randomUUID()} strings, the behaviour before the generators were introduced.
+ * It shares a single {@link SecureRandom} between all threads, so it is the slowest one.</li>
+ * </ul>
+ * The node id of the <i>timeOrdered</i> and <i>counter</i> strategies is configured with the
+ * <i>com.galaksiya.logging.contextId.nodeId</i> configuration. If not configured, a random node id is used.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class ContextIdGenerators {
+
+	public static final String RANDOM = "random";
+	public static final String TIME_ORDERED = "timeOrdered";
+	public static final String COUNTER = "counter";
+	public static final String UUID = "uuid";
+
+	/**
+	 * Maximum node id, node ids are 16 bits.
+	 */
+	public static final int MAX_NODE_ID = 0xFFFF;
+
+	private ContextIdGenerators() {
+	}
+
+	/**
+	 * Creates the generator of the given strategy name or implementation class name.
+	 *
+	 * @param name   One of the built-in strategy names or the fully qualified name of a {@link ContextIdGenerator}
+	 *               implementation.
+	 * @param nodeId Node id to use with the time-ordered and counter strategies, or a negative value to use a random
+	 *               one.
+	 * @return Created generator.
+	 * @throws IllegalArgumentException If the given name is neither a built-in strategy nor an instantiable {@link
+	 *                                  ContextIdGenerator} implementation, or the node id is too large.
+	 */
+	public static ContextIdGenerator create(String name, int nodeId) {
+		if (nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+		}
+		int node = nodeId < 0 ? Seeds.nextInt() & MAX_NODE_ID : nodeId;
+		switch (name) {
+			case RANDOM:
+				return new RandomContextIdGenerator();
+			case TIME_ORDERED:
+				return new TimeOrderedContextIdGenerator(node);
+			case COUNTER:
+				return new CounterContextIdGenerator(node);
+			case UUID:
+				return () -> java.util.UUID.randomUUID().toString();
+			default:
+				try {
+					return Class.forName(name).asSubclass(ContextIdGenerator.class).getConstructor().newInstance();
+				} catch (ReflectiveOperationException | ClassCastException e) {
+					throw new IllegalArgumentException("unknown context id generator: " + name, e);
+				}
+		}
+	}
+
+	/**
+	 * Process-wide seed source of the generators. A single {@link SecureRandom} is used only while creating the
+	 * generators and the thread-local random generators, never on each id.
+	 */
+	static final class Seeds {
+
+		private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+		private Seeds() {
+		}
+
+		static synchronized long nextLong() {
+			return SECURE_RANDOM.nextLong();
+		}
+
+		static synchronized int nextInt() {
+			return SECURE_RANDOM.nextInt();
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.galaksiya.logger.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates ids made of a fixed prefix and a lock-free counter, e.g. <i>00a3-kfz1q8s2-1f</i>. The prefix contains the
+ * node id and the start time of the generator in milliseconds, so ids are unique across the nodes with different node
+ * ids and across the restarts of the same node. It is the cheapest strategy, but the ids reveal the operation count.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class CounterContextIdGenerator implements ContextIdGenerator {
+
+	private final String prefix;
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * @param nodeId Id of the node the ids are generated on, between 0 and {@link ContextIdGenerators#MAX_NODE_ID}.
+	 */
+	public CounterContextIdGenerator(int nodeId) {
+		String node = Integer.toHexString(0x10000 | (nodeId & ContextIdGenerators.MAX_NODE_ID)).substring(1);
+		this.prefix = node + "-" + Long.toString(System.currentTimeMillis(), 36) + "-";
+	}
+
+	@Override
+	public String nextId() {
+		return this.prefix.concat(Long.toString(this.counter.incrementAndGet(), 36));
+	}
+}
@@ -0,0 +1,34 @@
+package com.galaksiya.logger.id;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generates random (version 4) UUID strings like {@link UUID#randomUUID()}, but from a {@link SplittableRandom} per
+ * thread instead of a single {@link java.security.SecureRandom} shared by all threads. Thread generators are split
+ * from a root generator seeded once from {@link java.security.SecureRandom}, so the ids stay unique across the
+ * replicas without any contention or entropy reads per id.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class RandomContextIdGenerator implements ContextIdGenerator {
+
+	private final SplittableRandom root = new SplittableRandom(ContextIdGenerators.Seeds.nextLong());
+
+	private final ThreadLocal<SplittableRandom> random = ThreadLocal.withInitial(this::split);
+
+	private SplittableRandom split() {
+		synchronized (this.root) {
+			return this.root.split();
+		}
+	}
+
+	@Override
+	public String nextId() {
+		SplittableRandom threadRandom = this.random.get();
+		long mostSigBits = (threadRandom.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+		long leastSigBits = (threadRandom.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits).toString();
+	}
+}
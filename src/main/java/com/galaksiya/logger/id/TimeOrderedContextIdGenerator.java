@@ -0,0 +1,52 @@
+package com.galaksiya.logger.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates <a href="https://github.com/ulid/spec">ULID</a> strings; 26 Crockford base32 characters, sortable by their
+ * creation time. The 48-bit millisecond timestamp is followed by the 16-bit node id and a 64-bit sequence starting from
+ * a random value. The sequence is a single lock-free counter, so ids are unique and monotonic within a node, and unique
+ * across the nodes with different node ids.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class TimeOrderedContextIdGenerator implements ContextIdGenerator {
+
+	private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	private final int nodeId;
+	private final AtomicLong sequence = new AtomicLong(ContextIdGenerators.Seeds.nextLong());
+
+	/**
+	 * @param nodeId Id of the node the ids are generated on, between 0 and {@link ContextIdGenerators#MAX_NODE_ID}.
+	 */
+	public TimeOrderedContextIdGenerator(int nodeId) {
+		this.nodeId = nodeId & ContextIdGenerators.MAX_NODE_ID;
+	}
+
+	@Override
+	public String nextId() {
+		long time = System.currentTimeMillis();
+		long sequenceValue = this.sequence.getAndIncrement();
+
+		char[] chars = new char[26];
+		// 48-bit time on 10 characters, the first one carries only 3 bits.
+		for (int i = 9; i >= 0; i--) {
+			chars[i] = ENCODING[(int) (time & 0x1F)];
+			time >>>= 5;
+		}
+		// 80-bit node id and sequence on 16 characters, encoded as two 40-bit halves.
+		long high = ((long) this.nodeId << 24) | (sequenceValue >>> 40);
+		long low = sequenceValue & 0xFFFFFFFFFFL;
+		for (int i = 17; i >= 10; i--) {
+			chars[i] = ENCODING[(int) (high & 0x1F)];
+			high >>>= 5;
+		}
+		for (int i = 25; i >= 18; i--) {
+			chars[i] = ENCODING[(int) (low & 0x1F)];
+			low >>>= 5;
+		}
+		return new String(chars);
+	}
+}
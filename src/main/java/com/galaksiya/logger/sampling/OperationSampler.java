@@ -0,0 +1,30 @@
+package com.galaksiya.logger.sampling;
+
+/**
+ * Decides which successful {@link com.galaksiya.logger.OperationLog}s of an operation are logged. Samplers are
+ * configured per operation name with the <i>com.galaksiya.logging.operationLog.sampling</i> configuration, see {@link
+ * OperationSamplers}. Only the success logs are sampled, the warn, fail and fatal logs are always logged.
+ * <br>
+ * Implementations are called on each successful operation from any thread, so they must be thread-safe and must not
+ * block.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public interface OperationSampler {
+
+	/**
+	 * Decides whether the current success log is logged.
+	 *
+	 * @return {@code true} if the log is kept, {@code false} if it is dropped.
+	 */
+	boolean sample();
+
+	/**
+	 * Returns the ratio of the kept logs to all logs of the operation, written to each kept log so the counts can be
+	 * re-weighted downstream.
+	 *
+	 * @return Sample rate between 0 and 1.
+	 */
+	double getSampleRate();
+}
@@ -0,0 +1,49 @@
+package com.galaksiya.logger.sampling;
+
+/**
+ * Built-in {@link OperationSampler} strategies, configured per operation name with the
+ * <i>com.galaksiya.logging.operationLog.sampling</i> configuration;
+ * <ul>
+ * <li><i>rate</i>: keeps each success log with a fixed probability, see {@link ProbabilityOperationSampler},</li>
+ * <li><i>perSecond</i>: keeps at most a number of success logs per second, see {@link
+ * RateLimitingOperationSampler}.</li>
+ * </ul>
+ * For example;
+ * <pre>
+ * sampling = [
+ *     { operation = "getUser", rate = 0.01 }
+ *     { operation = "search", perSecond = 50 }
+ * ]
+ * </pre>
+ * Each kept log has the <i>_sampleRate</i> field, the ratio of the kept logs to all logs of the operation.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public final class OperationSamplers {
+
+	public static final String RATE = "rate";
+	public static final String PER_SECOND = "perSecond";
+
+	private OperationSamplers() {
+	}
+
+	/**
+	 * Creates the sampler of the given strategy name.
+	 *
+	 * @param name  One of the built-in strategy names.
+	 * @param value Probability of the <i>rate</i> strategy, or the logs per second of the <i>perSecond</i> strategy.
+	 * @return Created sampler.
+	 * @throws IllegalArgumentException If the given name is not a built-in strategy, or the value is out of range.
+	 */
+	public static OperationSampler create(String name, double value) {
+		switch (name) {
+			case RATE:
+				return new ProbabilityOperationSampler(value);
+			case PER_SECOND:
+				return new RateLimitingOperationSampler(value);
+			default:
+				throw new IllegalArgumentException("unknown operation sampler: " + name);
+		}
+	}
+}
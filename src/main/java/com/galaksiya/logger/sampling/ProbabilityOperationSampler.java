@@ -0,0 +1,34 @@
+package com.galaksiya.logger.sampling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps each log with a fixed probability, drawn from the thread-local random generator so the threads do not contend.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class ProbabilityOperationSampler implements OperationSampler {
+
+	private final double probability;
+
+	/**
+	 * @param probability Probability to keep a log, between 0 and 1.
+	 */
+	public ProbabilityOperationSampler(double probability) {
+		if (!(probability >= 0 && probability <= 1)) {
+			throw new IllegalArgumentException("sampling rate must be between 0 and 1: " + probability);
+		}
+		this.probability = probability;
+	}
+
+	@Override
+	public boolean sample() {
+		return this.probability >= 1 || ThreadLocalRandom.current().nextDouble() < this.probability;
+	}
+
+	@Override
+	public double getSampleRate() {
+		return this.probability;
+	}
+}
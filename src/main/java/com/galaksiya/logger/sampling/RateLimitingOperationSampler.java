@@ -0,0 +1,95 @@
+package com.galaksiya.logger.sampling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps at most a fixed number of logs per second with a token bucket holding up to one second of logs, so short
+ * bursts are kept while sustained load is limited. The bucket is implemented as a single lock-free theoretical
+ * arrival time (GCRA), no thread waits for a token.
+ * <br>
+ * The sample rate of the kept logs is the ratio of the kept logs to all logs in the previous second, since the rate of
+ * the current second is not known until it ends. It is 1 until the first second ends.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class RateLimitingOperationSampler implements OperationSampler {
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final double perSecond;
+
+	/**
+	 * Time in nanoseconds between two logs at the configured rate.
+	 */
+	private final long intervalNanos;
+
+	/**
+	 * Time in nanoseconds a log may arrive ahead of its theoretical arrival time, namely the capacity of the bucket.
+	 */
+	private final long burstNanos;
+
+	/**
+	 * Time the next log would arrive at if the logs arrived exactly at the configured rate. The bucket is full while it
+	 * is in the past.
+	 */
+	private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+	private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+	private final LongAdder offered = new LongAdder();
+	private final LongAdder kept = new LongAdder();
+	private volatile double sampleRate = 1;
+
+	/**
+	 * @param perSecond Maximum number of logs to keep per second, greater than 0.
+	 */
+	public RateLimitingOperationSampler(double perSecond) {
+		if (!(perSecond > 0) || Double.isInfinite(perSecond)) {
+			throw new IllegalArgumentException("sampling per second must be greater than 0: " + perSecond);
+		}
+		this.perSecond = perSecond;
+		this.intervalNanos = Math.max((long) (WINDOW_NANOS / perSecond), 1);
+		this.burstNanos = Math.max(WINDOW_NANOS, this.intervalNanos);
+	}
+
+	@Override
+	public boolean sample() {
+		long now = System.nanoTime();
+		rollWindow(now);
+		this.offered.increment();
+		while (true) {
+			long arrival = this.theoreticalArrival.get();
+			long next = (arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival) + this.intervalNanos;
+			if (next - now > this.burstNanos) {
+				return false;
+			}
+			if (this.theoreticalArrival.compareAndSet(arrival, next)) {
+				this.kept.increment();
+				return true;
+			}
+		}
+	}
+
+	private void rollWindow(long now) {
+		long start = this.windowStart.get();
+		if (now - start >= WINDOW_NANOS && this.windowStart.compareAndSet(start, now)) {
+			long offeredCount = this.offered.sumThenReset();
+			long keptCount = this.kept.sumThenReset();
+			this.sampleRate = offeredCount == 0 ? 1 : Math.min((double) keptCount / offeredCount, 1);
+		}
+	}
+
+	@Override
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * @return Maximum number of logs to keep per second.
+	 */
+	public double getPerSecond() {
+		return this.perSecond;
+	}
+}
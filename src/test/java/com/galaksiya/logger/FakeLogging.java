@@ -0,0 +1,348 @@
+package com.galaksiya.logger;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.paging.AsyncPage;
+import com.google.api.gax.paging.Page;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.api.gax.rpc.ResourceExhaustedException;
+import com.google.cloud.MonitoredResourceDescriptor;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Logging;
+import com.google.cloud.logging.LoggingException;
+import com.google.cloud.logging.LoggingOptions;
+import com.google.cloud.logging.Metric;
+import com.google.cloud.logging.MetricInfo;
+import com.google.cloud.logging.Severity;
+import com.google.cloud.logging.Sink;
+import com.google.cloud.logging.SinkInfo;
+import com.google.cloud.logging.Synchronicity;
+import io.grpc.Status;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * In-process {@link Logging} implementation that counts the written entries instead of sending them to Cloud Logging.
+ * Only the write path is implemented, the management operations throw {@link UnsupportedOperationException}.
+ * <br>
+ * A latency, a failure rate and a quota rejection rate can be injected into the writes to simulate a slow, failing or
+ * throttled backend. Failures are thrown as {@link LoggingException}s over an {@link IOException}, quota rejections as
+ * {@link LoggingException}s over a {@link ResourceExhaustedException}, like the real service does. Entries can also be
+ * rejected permanently with a given status code, like the real service rejects an invalid entry or a project without
+ * the permission; a write call including a rejected entry fails as a whole. Written entries are counted per log name,
+ * and kept in memory if recording is enabled.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class FakeLogging implements Logging {
+
+	private final LongAdder writeCalls = new LongAdder();
+	private final LongAdder writtenEntries = new LongAdder();
+	private final LongAdder failedWrites = new LongAdder();
+	private final LongAdder rejectedWrites = new LongAdder();
+	private final ConcurrentMap<String, LongAdder> writtenEntriesByLogName = new ConcurrentHashMap<>();
+	private final Queue<LogEntry> recordedEntries = new ConcurrentLinkedQueue<>();
+
+	private volatile Synchronicity writeSynchronicity = Synchronicity.ASYNC;
+	private volatile Severity flushSeverity;
+	private volatile long writeLatencyMillis;
+	private volatile double writeFailureRate;
+	private volatile double quotaRejectionRate;
+	private volatile boolean recording;
+	private volatile Predicate<LogEntry> rejectedEntries;
+	private volatile Status.Code rejectionCode;
+
+	/**
+	 * @return Number of {@link #write(Iterable, WriteOption...)} calls made so far, including the failed ones.
+	 */
+	public long getWriteCalls() {
+		return writeCalls.sum();
+	}
+
+	/**
+	 * @return Number of entries written so far.
+	 */
+	public long getWrittenEntries() {
+		return writtenEntries.sum();
+	}
+
+	/**
+	 * @param logName Log name of the entries.
+	 * @return Number of entries with the given log name written so far.
+	 */
+	public long getWrittenEntries(String logName) {
+		LongAdder count = writtenEntriesByLogName.get(logName);
+		return count == null ? 0 : count.sum();
+	}
+
+	/**
+	 * @return Number of write calls failed with an injected failure so far.
+	 */
+	public long getFailedWrites() {
+		return failedWrites.sum();
+	}
+
+	/**
+	 * @return Number of write calls rejected with an injected quota rejection or rejected entries so far.
+	 */
+	public long getRejectedWrites() {
+		return rejectedWrites.sum();
+	}
+
+	/**
+	 * @return Entries written while recording is enabled, in the order they are written.
+	 */
+	public List<LogEntry> getRecordedEntries() {
+		return new ArrayList<>(recordedEntries);
+	}
+
+	/**
+	 * @param recording Keeps the written entries in memory if {@code true}, see {@link #getRecordedEntries()}.
+	 */
+	public void setRecording(boolean recording) {
+		this.recording = recording;
+	}
+
+	/**
+	 * @param writeLatencyMillis Time each write call waits before returning.
+	 */
+	public void setWriteLatencyMillis(long writeLatencyMillis) {
+		this.writeLatencyMillis = writeLatencyMillis;
+	}
+
+	/**
+	 * @param writeFailureRate Probability of a write call to fail, between 0 and 1.
+	 */
+	public void setWriteFailureRate(double writeFailureRate) {
+		this.writeFailureRate = writeFailureRate;
+	}
+
+	/**
+	 * @param quotaRejectionRate Probability of a write call to be rejected for exceeding the quota, between 0 and 1.
+	 */
+	public void setQuotaRejectionRate(double quotaRejectionRate) {
+		this.quotaRejectionRate = quotaRejectionRate;
+	}
+
+	/**
+	 * @param rejectedEntries Entries to reject permanently, {@code null} to reject none.
+	 * @param rejectionCode   Status code to reject the entries with, e.g. {@link Status.Code#INVALID_ARGUMENT}.
+	 */
+	public void setRejectedEntries(Predicate<LogEntry> rejectedEntries, Status.Code rejectionCode) {
+		this.rejectionCode = rejectionCode;
+		this.rejectedEntries = rejectedEntries;
+	}
+
+	@Override
+	public void write(Iterable<LogEntry> logEntries, WriteOption... options) {
+		writeCalls.increment();
+		if (writeLatencyMillis > 0) {
+			try {
+				Thread.sleep(writeLatencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (writeFailureRate > 0 && ThreadLocalRandom.current().nextDouble() < writeFailureRate) {
+			failedWrites.increment();
+			throw new LoggingException(new IOException("injected failure"), true);
+		}
+		if (quotaRejectionRate > 0 && ThreadLocalRandom.current().nextDouble() < quotaRejectionRate) {
+			rejectedWrites.increment();
+			throw new LoggingException(new ResourceExhaustedException("injected quota rejection", null,
+					GrpcStatusCode.of(Status.Code.RESOURCE_EXHAUSTED), true));
+		}
+		Predicate<LogEntry> rejected = rejectedEntries;
+		if (rejected != null) {
+			for (LogEntry entry : logEntries) {
+				if (rejected.test(entry)) {
+					rejectedWrites.increment();
+					throw new LoggingException(ApiExceptionFactory.createException("injected rejection", null,
+							GrpcStatusCode.of(rejectionCode), false));
+				}
+			}
+		}
+		for (LogEntry entry : logEntries) {
+			writtenEntries.increment();
+			writtenEntriesByLogName.computeIfAbsent(String.valueOf(entry.getLogName()), name -> new LongAdder())
+					.increment();
+			if (recording) {
+				recordedEntries.add(entry);
+			}
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void setWriteSynchronicity(Synchronicity synchronicity) {
+		this.writeSynchronicity = synchronicity;
+	}
+
+	@Override
+	public Synchronicity getWriteSynchronicity() {
+		return writeSynchronicity;
+	}
+
+	@Override
+	public void setFlushSeverity(Severity severity) {
+		this.flushSeverity = severity;
+	}
+
+	@Override
+	public Severity getFlushSeverity() {
+		return flushSeverity;
+	}
+
+	@Override
+	public LoggingOptions getOptions() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public Sink create(SinkInfo sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Sink> createAsync(SinkInfo sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Sink update(SinkInfo sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Sink> updateAsync(SinkInfo sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Sink getSink(String sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Sink> getSinkAsync(String sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Page<Sink> listSinks(ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<AsyncPage<Sink>> listSinksAsync(ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean deleteSink(String sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Boolean> deleteSinkAsync(String sink) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean deleteLog(String log) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Boolean> deleteLogAsync(String log) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Page<MonitoredResourceDescriptor> listMonitoredResourceDescriptors(ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<AsyncPage<MonitoredResourceDescriptor>> listMonitoredResourceDescriptorsAsync(
+			ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Metric create(MetricInfo metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Metric> createAsync(MetricInfo metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Metric update(MetricInfo metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Metric> updateAsync(MetricInfo metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Metric getMetric(String metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Metric> getMetricAsync(String metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Page<Metric> listMetrics(ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<AsyncPage<Metric>> listMetricsAsync(ListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean deleteMetric(String metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<Boolean> deleteMetricAsync(String metric) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Page<LogEntry> listLogEntries(EntryListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ApiFuture<AsyncPage<LogEntry>> listLogEntriesAsync(EntryListOption... options) {
+		throw new UnsupportedOperationException();
+	}
+}
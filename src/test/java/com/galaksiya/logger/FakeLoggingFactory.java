@@ -0,0 +1,28 @@
+package com.galaksiya.logger;
+
+import com.google.cloud.logging.Logging;
+
+/**
+ * {@link GcpLoggingFactory} returning a single shared {@link FakeLogging}, so the GCP loggers created through {@link
+ * GLogger#GLogger(Class)} write to it when configured with
+ * <i>com.galaksiya.logging.gcpLogging.loggingFactory = com.galaksiya.logger.FakeLoggingFactory</i>.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class FakeLoggingFactory implements GcpLoggingFactory {
+
+	private static final FakeLogging LOGGING = new FakeLogging();
+
+	/**
+	 * @return Shared fake service, to inject latency and failures into and to read the written entries from.
+	 */
+	public static FakeLogging getLogging() {
+		return LOGGING;
+	}
+
+	@Override
+	public Logging create(String projectId, String credentialsPath) {
+		return LOGGING;
+	}
+}
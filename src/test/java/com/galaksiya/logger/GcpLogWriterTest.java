@@ -0,0 +1,202 @@
+package com.galaksiya.logger;
+
+import com.galaksiya.logger.config.OverflowPolicy;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
+import io.grpc.Status;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link GcpLogWriter} writing to a {@link FakeLogging}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class GcpLogWriterTest {
+
+	private static final long TIMEOUT_MILLIS = 20000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void spillsWhileFailingAndWritesInOrderOnceRecovered() throws IOException, InterruptedException {
+		FakeLogging logging = recordingLogging();
+		logging.setWriteFailureRate(1);
+		GcpLogWriter writer = new GcpLogWriter(logging, 10, 10, 10, 1024 * 1024, openSpill("gcp.spill"),
+				OverflowPolicy.WRITE, 0, Severity.WARNING);
+		try {
+			for (int i = 0; i < 100; i++) {
+				assertTrue(writer.offer(GcpSpillFileTest.entry(i)));
+			}
+			awaitTrue(() -> logging.getFailedWrites() > 0);
+			logging.setWriteFailureRate(0);
+
+			awaitWritten(logging, 100);
+			assertWrittenInOrder(logging, 0, 100);
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	public void replaysSpilledEntriesAfterRestart() throws IOException, InterruptedException {
+		FakeLogging failing = recordingLogging();
+		failing.setWriteFailureRate(1);
+		GcpLogWriter writer = new GcpLogWriter(failing, 100, 10, 10, 1024 * 1024, openSpill("gcp.spill"),
+				OverflowPolicy.WRITE, 0, Severity.WARNING);
+		for (int i = 0; i < 50; i++) {
+			assertTrue(writer.offer(GcpSpillFileTest.entry(i)));
+		}
+		// Closing appends the batches which cannot be written to the spill file.
+		writer.close();
+		assertEquals(0, failing.getWrittenEntries());
+
+		FakeLogging logging = recordingLogging();
+		writer = new GcpLogWriter(logging, 10, 10, 10, 1024 * 1024, openSpill("gcp.spill"), OverflowPolicy.WRITE, 0,
+				Severity.WARNING);
+		try {
+			awaitWritten(logging, 50);
+			assertTrue(writer.offer(GcpSpillFileTest.entry(50)));
+			awaitWritten(logging, 51);
+			assertWrittenInOrder(logging, 0, 51);
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	public void discardsOnlyInvalidEntriesOfRejectedBatch() throws InterruptedException {
+		FakeLogging logging = recordingLogging();
+		LogEntry invalid = GcpSpillFileTest.entry(-1);
+		logging.setRejectedEntries(entry -> entry.getPayload().equals(invalid.getPayload()),
+				Status.Code.INVALID_ARGUMENT);
+		GcpLogWriter writer = new GcpLogWriter(logging, 100, 10, 1000, 1024 * 1024, null, OverflowPolicy.WRITE, 0,
+				Severity.WARNING);
+		try {
+			for (int i = 0; i < 10; i++) {
+				assertTrue(writer.offer(GcpSpillFileTest.entry(i)));
+				if (i == 4) {
+					assertTrue(writer.offer(invalid));
+				}
+			}
+
+			awaitWritten(logging, 10);
+			assertWrittenInOrder(logging, 0, 10);
+			assertEquals(1, writer.getDroppedCount(Severity.INFO));
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	public void movesPastRejectedSpilledEntries() throws IOException, InterruptedException {
+		FakeLogging logging = recordingLogging();
+		logging.setWriteFailureRate(1);
+		GcpLogWriter writer = new GcpLogWriter(logging, 10, 10, 10, 1024 * 1024, openSpill("gcp.spill"),
+				OverflowPolicy.WRITE, 0, Severity.WARNING);
+		try {
+			for (int i = 0; i < 50; i++) {
+				assertTrue(writer.offer(GcpSpillFileTest.entry(i)));
+			}
+			awaitTrue(() -> logging.getFailedWrites() > 0);
+			logging.setRejectedEntries(entry -> true, Status.Code.PERMISSION_DENIED);
+			logging.setWriteFailureRate(0);
+
+			awaitTrue(() -> writer.getDroppedCount(Severity.INFO) == 50);
+			logging.setRejectedEntries(null, null);
+			assertTrue(writer.offer(GcpSpillFileTest.entry(50)));
+			awaitWritten(logging, 1);
+			assertWrittenInOrder(logging, 50, 51);
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	public void keepsEntriesAtOrAboveLevelWithoutWaiting() throws InterruptedException {
+		FakeLogging logging = recordingLogging();
+		logging.setWriteLatencyMillis(500);
+		GcpLogWriter writer = new GcpLogWriter(logging, 20, 1, 0, 1024 * 1024, null, OverflowPolicy.DROP_BELOW_LEVEL,
+				TIMEOUT_MILLIS, Severity.WARNING);
+		try {
+			assertTrue(writer.offer(GcpSpillFileTest.entry(0)));
+			awaitTrue(() -> logging.getWriteCalls() > 0);
+			long start = System.nanoTime();
+			// Fills the queue while the writer is writing the first entry, the reserved queue has room for 2 more.
+			for (int i = 1; i <= 21; i++) {
+				assertTrue(writer.offer(GcpSpillFileTest.entry(i)));
+			}
+			for (int i = 22; i <= 24; i++) {
+				assertTrue(writer.offer(GcpSpillFileTest.entry(i).toBuilder().setSeverity(Severity.ERROR).build()));
+			}
+			assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(400));
+			assertEquals(1, writer.getDroppedCount(Severity.INFO));
+			assertEquals(1, writer.getDroppedCount(Severity.ERROR));
+
+			logging.setWriteLatencyMillis(0);
+			awaitTrue(() -> logging.getWrittenEntries("test") == 23);
+			awaitTrue(() -> logging.getWrittenEntries(GcpLogWriter.class.getName()) == 1);
+			// The drop entry is written on its own, so it does not exceed the batch size of a single entry.
+			assertEquals(logging.getWrittenEntries(), logging.getWriteCalls());
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static FakeLogging recordingLogging() {
+		FakeLogging logging = new FakeLogging();
+		logging.setRecording(true);
+		return logging;
+	}
+
+	private GcpSpillFile openSpill(String name) throws IOException {
+		Path path = folder.getRoot().toPath().resolve(name);
+		return new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE);
+	}
+
+	/**
+	 * Waits until the given number of test entries is written, the drop entries of the writer are not counted.
+	 */
+	private static void awaitWritten(FakeLogging logging, int count) throws InterruptedException {
+		awaitTrue(() -> logging.getWrittenEntries("test") >= count);
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (!condition.getAsBoolean()) {
+			assertTrue("timed out", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * Checks that the written test entries are the consecutive entries from the first to the end, exclusive.
+	 */
+	private static void assertWrittenInOrder(FakeLogging logging, int first, int end) {
+		List<Object> expected = new ArrayList<>();
+		for (int i = first; i < end; i++) {
+			expected.add(GcpSpillFileTest.entry(i).getPayload().getData());
+		}
+		List<Object> written = new ArrayList<>();
+		for (LogEntry entry : logging.getRecordedEntries()) {
+			if ("test".equals(entry.getLogName())) {
+				written.add(((Payload<?>) entry.getPayload()).getData());
+			}
+		}
+		assertEquals(expected, written);
+	}
+}
@@ -0,0 +1,159 @@
+package com.galaksiya.logger;
+
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Payload;
+import com.google.cloud.logging.Severity;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link GcpSpillFile}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class GcpSpillFileTest {
+
+	/**
+	 * Size of the header page of the file, the data area starts after it.
+	 */
+	private static final int HEADER_BYTES = 4096;
+
+	/**
+	 * Padding of the entries, so a smallest spill file of 64 KiB holds about a hundred of them.
+	 */
+	private static final String PADDING = new String(new char[500]).replace('\0', '.');
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void replaysEntriesInOrderAfterWrappingAndReopening() throws IOException {
+		Path path = folder.newFolder("spill").toPath().resolve("gcp.spill");
+		int appended = 0;
+		int replayed = 0;
+		try (GcpSpillFile spill = new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE)) {
+			assertTrue(spill.isEmpty());
+			while (spill.append(entry(appended))) {
+				appended++;
+			}
+			int capacity = appended;
+			assertTrue(capacity > 10);
+			assertFalse(spill.isEmpty());
+
+			// Replay the first half, so the next entries wrap to the start of the data area.
+			List<LogEntry> entries = new ArrayList<>();
+			spill.commit(spill.peek(capacity / 2, Long.MAX_VALUE, entries));
+			replayed = assertEntries(entries, replayed);
+			while (spill.append(entry(appended))) {
+				appended++;
+			}
+			assertTrue(appended > capacity);
+		}
+
+		try (GcpSpillFile spill = new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE)) {
+			assertFalse(spill.isEmpty());
+			List<LogEntry> entries = new ArrayList<>();
+			while (!spill.isEmpty()) {
+				entries.clear();
+				spill.commit(spill.peek(7, Long.MAX_VALUE, entries));
+				replayed = assertEntries(entries, replayed);
+			}
+			assertEquals(appended, replayed);
+			assertEquals(0, spill.usedBytes());
+		}
+	}
+
+	@Test
+	public void discardsCorruptTrailingRecordOnReopen() throws IOException {
+		Path path = folder.newFolder("spill").toPath().resolve("gcp.spill");
+		long lastRecord;
+		try (GcpSpillFile spill = new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE)) {
+			for (int i = 0; i < 9; i++) {
+				assertTrue(spill.append(entry(i)));
+			}
+			lastRecord = spill.usedBytes();
+			assertTrue(spill.append(entry(9)));
+		}
+		// Flip a byte of the content, after the length and the CRC of the record.
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long position = HEADER_BYTES + lastRecord + 12;
+			ByteBuffer buffer = ByteBuffer.allocate(1);
+			channel.read(buffer, position);
+			buffer.put(0, (byte) ~buffer.get(0));
+			buffer.rewind();
+			channel.write(buffer, position);
+		}
+
+		assertReopenedWith(path, 9);
+	}
+
+	@Test
+	public void discardsTornTrailingRecordOnReopen() throws IOException {
+		Path path = folder.newFolder("spill").toPath().resolve("gcp.spill");
+		long lastRecord;
+		long end;
+		try (GcpSpillFile spill = new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE)) {
+			for (int i = 0; i < 9; i++) {
+				assertTrue(spill.append(entry(i)));
+			}
+			lastRecord = spill.usedBytes();
+			assertTrue(spill.append(entry(9)));
+			end = spill.usedBytes();
+		}
+		// The write position is on the disk but the record is not, as if the process crashed in between.
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate((int) (end - lastRecord)), HEADER_BYTES + lastRecord);
+		}
+
+		assertReopenedWith(path, 9);
+	}
+
+	/**
+	 * Reopens the spill file, checks that it has the given number of entries and appends to it after them.
+	 */
+	private static void assertReopenedWith(Path path, int count) throws IOException {
+		try (GcpSpillFile spill = new GcpSpillFile(path, 0, GcpLoggingClient.RESOURCE)) {
+			assertTrue(spill.append(entry(count)));
+			List<LogEntry> entries = new ArrayList<>();
+			spill.commit(spill.peek(Integer.MAX_VALUE, Long.MAX_VALUE, entries));
+			assertEquals(count + 1, assertEntries(entries, 0));
+			assertTrue(spill.isEmpty());
+		}
+	}
+
+	/**
+	 * Checks that the given entries are the consecutive entries starting with the given one.
+	 *
+	 * @return Number of the entry following the given entries.
+	 */
+	private static int assertEntries(List<LogEntry> entries, int first) {
+		int next = first;
+		for (LogEntry entry : entries) {
+			assertEquals(entry(next).getPayload().getData(), entry.getPayload().getData());
+			assertEquals(Severity.INFO, entry.getSeverity());
+			assertEquals("test", entry.getLogName());
+			assertEquals(GcpLoggingClient.RESOURCE, entry.getResource());
+			next++;
+		}
+		return next;
+	}
+
+	static LogEntry entry(int number) {
+		return LogEntry.newBuilder(Payload.StringPayload.of("entry " + number + " " + PADDING))
+				.setSeverity(Severity.INFO).setLogName("test").setTimestamp(1000L + number).build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.galaksiya.logger;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link JsonEncoder}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class JsonEncoderTest {
+
+	@Test
+	public void escapesQuotesBackslashesAndControlCharacters() {
+		assertEquals("\"plain\"", string("plain"));
+		assertEquals("\"\"", string(""));
+		assertEquals("\"say \\\"hi\\\"\"", string("say \"hi\""));
+		assertEquals("\"C:\\\\temp\\\\\"", string("C:\\temp\\"));
+		assertEquals("\"a\\nb\\rc\\td\\be\\ff\"", string("a\nb\rc\td\be\ff"));
+		assertEquals("\"\\u0000\\u001f\\u0001x\"", string("\u0000\u001f\u0001x"));
+	}
+
+	@Test
+	public void keepsOtherCharactersAsTheyAre() {
+		String value = "/ ' \u007f \u00e7\u011f \u20ac \ud83d\ude00 \u2028";
+		assertEquals('"' + value + '"', string(value));
+	}
+
+	@Test
+	public void writesNumbersAndLiterals() {
+		assertEquals("null", value(null));
+		assertEquals("true", value(true));
+		assertEquals("-7", value(-7L));
+		assertEquals("0.1", value(0.1f));
+		assertEquals("0.1", value(0.1d));
+		assertEquals("1.50", value(new BigDecimal("1.50")));
+		assertEquals("\"NaN\"", value(Double.NaN));
+		assertEquals("\"-Infinity\"", value(Float.NEGATIVE_INFINITY));
+		assertEquals("\"A\"", value('A'));
+	}
+
+	@Test
+	public void writesEscapedKeysAndNestedValues() {
+		Map<Object, Object> map = new LinkedHashMap<>();
+		map.put("key \"1\"", Arrays.asList(1, "two\n", null));
+		map.put(2, new int[]{3, 4});
+		map.put("nested", new LinkedHashMap<>(map));
+		StringBuilder builder = new StringBuilder();
+		JsonEncoder.appendObject(builder, map);
+		assertEquals("{\"key \\\"1\\\"\":[1,\"two\\n\",null],\"2\":[3,4],"
+				+ "\"nested\":{\"key \\\"1\\\"\":[1,\"two\\n\",null],\"2\":[3,4]}}", builder.toString());
+	}
+
+	@Test
+	public void stopsNestingAtMaxDepth() {
+		List<Object> cyclic = new ArrayList<>();
+		cyclic.add(cyclic);
+		String json = value(cyclic);
+		int depth = 0;
+		while (json.charAt(depth) == '[') {
+			depth++;
+		}
+		assertEquals(JsonEncoder.MAX_DEPTH, depth);
+		assertTrue(json, json.charAt(depth) == '"');
+	}
+
+	private static String string(String value) {
+		StringBuilder builder = new StringBuilder();
+		JsonEncoder.appendString(builder, value);
+		return builder.toString();
+	}
+
+	private static String value(Object value) {
+		StringBuilder builder = new StringBuilder();
+		JsonEncoder.appendValue(builder, value);
+		return builder.toString();
+	}
+}
@@ -0,0 +1,94 @@
+package com.galaksiya.logger;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link LatencyHistogram}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void keepsValuesBelow32Exact() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 31; i >= 0; i--) {
+			histogram.record(i);
+		}
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(32, snapshot.getCount());
+		assertEquals(0, snapshot.getValueAtPercentile(0));
+		assertEquals(15, snapshot.getValueAtPercentile(50));
+		assertEquals(28, snapshot.getValueAtPercentile(90));
+		assertEquals(31, snapshot.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void groupsLargerValuesInSubBuckets() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		// 32 and 33 share the first sub bucket of the 32..63 range, 34 starts the next one.
+		histogram.record(32);
+		histogram.record(33);
+		histogram.record(34);
+		histogram.record(1000);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(33, snapshot.getValueAtPercentile(25));
+		assertEquals(33, snapshot.getValueAtPercentile(50));
+		assertEquals(35, snapshot.getValueAtPercentile(75));
+		// 1000 is in the 992..1023 sub bucket, the percentile is capped at the exact maximum.
+		assertEquals(1000, snapshot.getValueAtPercentile(100));
+		assertEquals(1000, snapshot.getMax());
+	}
+
+	@Test
+	public void boundsTheErrorTo1Of16() {
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			long value = random.nextLong() >>> (18 + random.nextInt(45));
+			LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record(value);
+			histogram.record(Long.MAX_VALUE);
+			long recorded = histogram.snapshot().getValueAtPercentile(50);
+			assertTrue(value + " recorded as " + recorded, recorded >= value && recorded <= value + value / 16);
+		}
+	}
+
+	@Test
+	public void countsOutOfRangeValuesAtTheEdges() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		histogram.record(Long.MAX_VALUE);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(0, snapshot.getValueAtPercentile(50));
+		assertEquals(Long.MAX_VALUE, snapshot.getMax());
+		assertTrue(snapshot.getValueAtPercentile(100) >= (1L << 46) - 1);
+	}
+
+	@Test
+	public void resetsAndCombinesSnapshots() {
+		LatencyHistogram first = new LatencyHistogram();
+		LatencyHistogram second = new LatencyHistogram();
+		for (int i = 0; i < 90; i++) {
+			first.record(10);
+		}
+		for (int i = 0; i < 10; i++) {
+			second.record(20);
+		}
+		LatencyHistogram.Snapshot combined = first.snapshotAndReset().plus(second.snapshotAndReset());
+		assertEquals(100, combined.getCount());
+		assertEquals(10, combined.getValueAtPercentile(90));
+		assertEquals(20, combined.getValueAtPercentile(91));
+		assertEquals(20, combined.getMax());
+
+		LatencyHistogram.Snapshot empty = first.snapshotAndReset();
+		assertEquals(0, empty.getCount());
+		assertEquals(0, empty.getMax());
+		assertEquals(0, empty.getValueAtPercentile(99));
+	}
+}
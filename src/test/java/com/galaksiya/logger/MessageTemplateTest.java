@@ -0,0 +1,99 @@
+package com.galaksiya.logger;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link MessageTemplate}, which must render the messages exactly like {@link String#format(String,
+ * Object...)}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class MessageTemplateTest {
+
+	@Test
+	public void formatsSupportedConversionsLikeStringFormat() {
+		assertSameAsStringFormat("plain message");
+		assertSameAsStringFormat("");
+		assertSameAsStringFormat("user %s logged in %d times", "alice", 3);
+		assertSameAsStringFormat("%s%s", "a", "b");
+		assertSameAsStringFormat("%d %d %d %d", (byte) -1, (short) 2, Long.MIN_VALUE, new BigInteger("123456789012345"));
+		assertSameAsStringFormat("null %s and %d", null, null);
+		assertSameAsStringFormat("100%% done%n", (Object[]) null);
+		assertSameAsStringFormat("extra %s", "used", "ignored");
+		assertSameAsStringFormat("object %s", new StringBuilder("builder"));
+		assertSameAsStringFormat("{} is kept as it is", "ignored");
+	}
+
+	@Test
+	public void delegatesOtherConversionsToStringFormat() {
+		assertSameAsStringFormat("padded %5s|%-5d|", "a", 1);
+		assertSameAsStringFormat("indexed %2$s %1$s", "a", "b");
+		assertSameAsStringFormat("float %.2f", 1.2345);
+		assertSameAsStringFormat("hex %x", 255);
+		assertSameAsStringFormat("decimal %d", new BigDecimal("1.5"));
+		assertSameAsStringFormat("formattable %s", new Formattable() {
+			@Override
+			public void formatTo(Formatter formatter, int flags, int width, int precision) {
+				formatter.format("formatted");
+			}
+		});
+	}
+
+	@Test
+	public void failsLikeStringFormat() {
+		assertSameAsStringFormat("missing %s %s", "a");
+		assertSameAsStringFormat("wrong type %d", "a");
+		assertSameAsStringFormat("dangling %");
+		assertSameAsStringFormat("unknown %q", "a");
+	}
+
+	@Test
+	public void formatsParametersLoggingInTheirToString() {
+		Object nested = new Object() {
+			@Override
+			public String toString() {
+				return MessageTemplate.format("nested %s", "inner");
+			}
+		};
+		assertEquals("outer nested inner done", MessageTemplate.format("outer %s %s", nested, "done"));
+	}
+
+	@Test
+	public void reportsRenderingsToDelegate() {
+		StringBuilder builder = new StringBuilder();
+		assertTrue(MessageTemplate.of("a %s").formatTo(builder, new Object[]{"b", "c"}, 1));
+		assertEquals("a b", builder.toString());
+		assertFalse(MessageTemplate.of("%s %s").formatTo(new StringBuilder(), new Object[]{"b"}, 1));
+		assertFalse(MessageTemplate.of("%.1f").formatTo(new StringBuilder(), new Object[]{1.0}, 1));
+	}
+
+	private static void assertSameAsStringFormat(String message, Object... params) {
+		assertEquals(message, outcome(() -> String.format(message, params)),
+				outcome(() -> MessageTemplate.format(message, params)));
+		// The second call uses the cached template.
+		assertEquals(message, outcome(() -> String.format(message, params)),
+				outcome(() -> MessageTemplate.format(message, params)));
+	}
+
+	/**
+	 * @return Formatted message, or the class of the exception thrown while formatting it.
+	 */
+	private static String outcome(Supplier<String> format) {
+		try {
+			return format.get();
+		} catch (RuntimeException e) {
+			return e.getClass().getName();
+		}
+	}
+}
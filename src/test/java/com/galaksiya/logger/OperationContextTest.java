@@ -0,0 +1,134 @@
+package com.galaksiya.logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests of the {@link OperationContext} and its use by the {@link OperationLog}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class OperationContextTest {
+
+	private final GLogger logger = new GLogger(OperationContextTest.class);
+
+	@After
+	public void clearContext() {
+		assertNull("a test left a current context", OperationContext.current());
+	}
+
+	@Test
+	public void abandonedOperationDoesNotLeakIntoNextOnes() {
+		OperationLog request1 = this.logger.startOperation("request1");
+		String abandoned = request1.getContextId();
+		// Neither completed nor closed, as on an exception path.
+		assertNull(OperationContext.current());
+
+		OperationLog request2 = this.logger.startOperation("request2");
+		String second = request2.getContextId();
+		request2.succeed();
+		OperationLog request3 = this.logger.startOperation("request3");
+		String third = request3.getContextId();
+		request3.succeed();
+
+		assertFalse(abandoned.equals(second));
+		assertFalse(abandoned.equals(third));
+		assertFalse(second.equals(third));
+	}
+
+	@Test
+	public void abandonedOperationScopeRestoresPreviousContext() {
+		try (OperationContext.Scope outer = OperationContext.open("outer")) {
+			OperationLog operation = this.logger.startOperation("request");
+			assertEquals("outer", operation.getContextId());
+			try (OperationContext.Scope scope = OperationContext.open("inner")) {
+				assertEquals("inner", this.logger.startOperation("child").getContextId());
+			}
+			// The children above are abandoned, the scopes still restore the contexts.
+			assertEquals("outer", OperationContext.current());
+			operation.succeed();
+		}
+		assertNull(OperationContext.current());
+	}
+
+	@Test
+	public void operationsInScopeAreChainedToOperation() {
+		OperationLog parent = this.logger.startOperation("parent");
+		String contextId = parent.getContextId();
+		try (OperationContext.Scope scope = parent.openContext()) {
+			assertEquals(contextId, OperationContext.current());
+			OperationLog child = this.logger.startOperation("child");
+			assertEquals(contextId, child.getContextId());
+			child.succeed();
+			parent.succeed();
+		}
+		assertNull(OperationContext.current());
+	}
+
+	@Test
+	public void explicitContextIdIsNotReplaced() {
+		try (OperationContext.Scope scope = OperationContext.open("current")) {
+			OperationLog operation = this.logger.startOperation("operation", "explicit");
+			assertEquals("explicit", operation.getContextId());
+			operation.succeed();
+		}
+	}
+
+	@Test
+	public void wrappedTasksCaptureContextOnWrapAndRestoreThreadContext() throws Exception {
+		Runnable runnable;
+		Callable<String> callable;
+		Supplier<String> supplier;
+		String[] seen = new String[1];
+		try (OperationContext.Scope scope = OperationContext.open("captured")) {
+			runnable = OperationContext.wrap(() -> {
+				seen[0] = OperationContext.current();
+			});
+			callable = OperationContext.wrap(OperationContext::current);
+			supplier = OperationContext.wrapSupplier(OperationContext::current);
+		}
+
+		try (OperationContext.Scope scope = OperationContext.open("running")) {
+			runnable.run();
+			assertEquals("captured", seen[0]);
+			assertEquals("running", OperationContext.current());
+			assertEquals("captured", callable.call());
+			assertEquals("running", OperationContext.current());
+			assertEquals("captured", supplier.get());
+			assertEquals("running", OperationContext.current());
+		}
+	}
+
+	@Test
+	public void tasksWithoutContextAreNotWrapped() {
+		Runnable task = () -> {
+		};
+		assertEquals(task, OperationContext.wrap(task));
+	}
+
+	@Test
+	public void wrappedExecutorRunsTasksWithSubmittingContext() throws Exception {
+		ExecutorService executor = OperationContext.wrap(Executors.newSingleThreadExecutor());
+		try {
+			try (OperationContext.Scope scope = OperationContext.open("submitter")) {
+				assertEquals("submitter", executor.submit(OperationContext::current).get());
+			}
+			// The pool thread does not carry the context of the previous task.
+			assertNull(executor.submit(OperationContext::current).get());
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.galaksiya.logger;
+
+import org.apache.logging.log4j.Level;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the {@link OperationFields}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class OperationFieldsTest {
+
+	@Test
+	public void writesPrimitivesAsTheirBoxedValues() {
+		OperationFields fields = new OperationFields(4);
+		fields.put("count", Level.INFO, 3L);
+		fields.put("ratio", Level.INFO, 0.1f);
+		fields.put("mean", Level.INFO, 0.1d);
+		fields.put("nan", Level.INFO, Float.NaN);
+		fields.put("ok", Level.INFO, true);
+		fields.put("grade", Level.INFO, (Object) String.valueOf('A'));
+
+		String expected = "{\"count\":3,\"ratio\":0.1,\"mean\":0.1,\"nan\":\"NaN\",\"ok\":true,\"grade\":\"A\"}";
+		assertEquals(expected, formatJson(fields));
+		assertEquals(0.1f, fields.get("ratio"));
+		assertEquals(expected, formatBoxed(fields));
+	}
+
+	private static String formatJson(OperationFields fields) {
+		StringBuilder builder = new StringBuilder();
+		((OperationFields.View) fields.view(Level.INFO, true)).formatJsonTo(builder);
+		return builder.toString();
+	}
+
+	private static String formatBoxed(OperationFields fields) {
+		StringBuilder builder = new StringBuilder();
+		JsonEncoder.appendObject(builder, new LinkedHashMap<>(fields.view(Level.INFO, true)));
+		return builder.toString();
+	}
+}
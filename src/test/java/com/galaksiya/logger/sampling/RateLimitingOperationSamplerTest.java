@@ -0,0 +1,69 @@
+package com.galaksiya.logger.sampling;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link RateLimitingOperationSampler}.
+ *
+ * @version 1.0.0, 16.10.2026
+ * @since 2.2.0
+ */
+public class RateLimitingOperationSamplerTest {
+
+	@Test
+	public void keepsABurstOfOneSecondThenRefillsAtTheRate() throws InterruptedException {
+		RateLimitingOperationSampler sampler = new RateLimitingOperationSampler(10);
+		assertEquals(10, sample(sampler, 1000));
+		assertEquals(0, sample(sampler, 1000));
+
+		// A token is added every 100 milliseconds.
+		Thread.sleep(250);
+		int refilled = sample(sampler, 1000);
+		assertTrue("refilled " + refilled, refilled >= 2 && refilled <= 3);
+	}
+
+	@Test
+	public void reportsTheSampleRateOfThePreviousSecond() throws InterruptedException {
+		RateLimitingOperationSampler sampler = new RateLimitingOperationSampler(10);
+		assertEquals(10, sample(sampler, 1000));
+		assertEquals(1, sampler.getSampleRate(), 0);
+
+		Thread.sleep(1100);
+		assertTrue(sampler.sample());
+		assertEquals(0.01, sampler.getSampleRate(), 1e-9);
+	}
+
+	@Test
+	public void keepsOneLogPerIntervalBelowOnePerSecond() {
+		RateLimitingOperationSampler sampler = new RateLimitingOperationSampler(0.5);
+		assertEquals(1, sample(sampler, 1000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsZeroRate() {
+		new RateLimitingOperationSampler(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNaNRate() {
+		new RateLimitingOperationSampler(Double.NaN);
+	}
+
+	/**
+	 * Offers the given number of logs to the sampler at once.
+	 *
+	 * @return Number of the kept logs.
+	 */
+	private static int sample(OperationSampler sampler, int count) {
+		int kept = 0;
+		for (int i = 0; i < count; i++) {
+			if (sampler.sample()) {
+				kept++;
+			}
+		}
+		return kept;
+	}
+}